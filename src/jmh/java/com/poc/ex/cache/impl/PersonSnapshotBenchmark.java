@@ -0,0 +1,104 @@
+package com.poc.ex.cache.impl;
+
+import com.poc.ex.ExApplication;
+import com.poc.ex.cache.PersonSnapshotService;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.repository.PersonRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads served by the in-memory snapshot against the JPA projections they replace. Setup also prints the
+ * retained heap per row of the snapshot and of the entity list returned by {@code findAllByOrderByNameAsc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PersonSnapshotBenchmark {
+
+    @Param({"100000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PersonRepository personRepository;
+    private PersonSnapshotService personSnapshotService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("snapshot")
+                .properties("logging.level.com.poc.ex=warn", "person.derived.warm-up=false")
+                .run();
+        personRepository = context.getBean(PersonRepository.class);
+        personSnapshotService = context.getBean(PersonSnapshotService.class);
+        context.getBean(JdbcTemplate.class).update("INSERT INTO PERSON (NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE, UPDATE_DATE) "
+                + "SELECT 'PERSON ' || MOD(X, 7919), DATEADD('DAY', -MOD(X, 20000) - 7000, CURRENT_DATE), "
+                + "DATEADD('DAY', -MOD(X, 9000), CURRENT_DATE), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, ?)", rows - 3);
+        personSnapshotService.reload();
+        this.reportMemoryPerRow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public VersionedPersonDTO findOneSnapshot() {
+        return personSnapshotService.findVersionedPerson(this.randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public VersionedPersonDTO findOneJpa() {
+        return personRepository.findVersionedPersonById(this.randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public int findAllSnapshot() {
+        return personSnapshotService.findAllOrderByName().size();
+    }
+
+    @Benchmark
+    public int findAllJpa() {
+        return personRepository.findAllPersonDTOByOrderByNameAsc().size();
+    }
+
+    private void reportMemoryPerRow() {
+        long before = usedHeap();
+        List<Person> entities = personRepository.findAllByOrderByNameAsc();
+        long entityBytes = usedHeap() - before;
+        before = usedHeap();
+        PersonSnapshot snapshot = PersonSnapshot.of(entities.stream().map(person -> new PersonSnapshot.Row(person.getId(), person.getName(),
+                person.getBirthDate(), person.getHireDate(), person.getUpdateDate(), person.getVersion())).toList());
+        long snapshotBytes = usedHeap() - before;
+        System.out.printf("%nrows=%d, snapshotEstimatedBytesPerRow=%d, snapshotRetainedBytesPerRow=%d, entityListRetainedBytesPerRow=%d%n",
+                snapshot.size(), snapshot.estimatedBytes() / snapshot.size(), snapshotBytes / snapshot.size(), entityBytes / entities.size());
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1);
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.poc.ex.controller;
+
+import com.poc.ex.ExApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the servlet stack with platform threads against virtual threads + bounded datasource and the
+ * WebFlux + R2DBC stack. The servlet salary endpoint is served from the derived-values cache while the reactive
+ * one reads the dates through R2DBC on every call, so only the page endpoint compares like with like.
+ * Run with {@code -Djmh.includes=ExecutionModeLoadBenchmark}; the sample-time mode reports p99. The reactive mode
+ * needs the reactive Maven profile as well: {@code -Pbenchmark,reactive -Djmh.args="-p mode=platform,virtual-threads,reactive"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+// Pooled keep-alive connections from the in-process JDK client stalled the Netty server after a few seconds,
+// so every mode opens a fresh connection per request.
+@Fork(value = 1, jvmArgsAppend = "-Djdk.httpclient.keepalive.timeout=0")
+public class ExecutionModeLoadBenchmark {
+
+    @Param({"platform", "virtual-threads"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest pageRequest;
+    private HttpRequest salaryRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExApplication.class)
+                .profiles(mode)
+                .properties("server.port=0", "logging.level.com.poc.ex=warn")
+                .run();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        pageRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/person/page?size=3")).build();
+        salaryRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/person/1/salary?salaryType=full")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int pageFromDatabase() throws IOException, InterruptedException {
+        return httpClient.send(pageRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public int salary() throws IOException, InterruptedException {
+        return httpClient.send(salaryRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.poc.ex.mapper;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDTO;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonMapperServiceImplBenchmark {
+
+    private final PersonMapperServiceImpl personMapperService = new PersonMapperServiceImpl();
+    private final PersonDTO personDTO = new PersonDTO("ADAM", LocalDate.of(1984, 12, 4), LocalDate.of(2023, 5, 1));
+    private final PersonDTO partialPersonDTO = new PersonDTO(null, null, LocalDate.of(2023, 5, 1));
+    private final LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+    private Person person;
+
+    // The mappers only copy the same values onto the entity, so one entity serves every invocation; a
+    // per-invocation setup would add its own overhead and allocation to these nanosecond-scale timings.
+    @Setup(Level.Trial)
+    public void setUp() {
+        person = personMapperService.toPerson(personDTO, now);
+    }
+
+    @Benchmark
+    public Person toPerson() {
+        return personMapperService.toPerson(personDTO, now);
+    }
+
+    @Benchmark
+    public Person toAllFieldsExistsPerson() {
+        return personMapperService.toExistsPerson(person, personDTO, true, now);
+    }
+
+    @Benchmark
+    public Person toSomeFieldsExistsPerson() {
+        return personMapperService.toExistsPerson(person, partialPersonDTO, false, now);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.poc.ex.model.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonDTOJsonBenchmark {
+
+    private final PersonDTO personDTO = new PersonDTO("ADAM", LocalDate.of(1984, 12, 4), LocalDate.of(2023, 5, 1));
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writerFor(PersonDTO.class);
+        reader = objectMapper.readerFor(PersonDTO.class);
+        json = writer.writeValueAsBytes(personDTO);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(personDTO);
+    }
+
+    @Benchmark
+    public PersonDTO deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public PersonDTO roundTrip() throws IOException {
+        return reader.readValue(writer.writeValueAsBytes(personDTO));
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.poc.ex.repository;
+
+import com.poc.ex.ExApplication;
+import com.poc.ex.mapper.PersonMapperService;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity hydration against constructor projections for the single-get and list read paths.
+ * Run with {@code -prof gc} to compare allocation per call as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PersonProjectionBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PersonRepository personRepository;
+    private PersonMapperService personMapperService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.com.poc.ex=warn", "person.derived.warm-up=false")
+                .run();
+        personRepository = context.getBean(PersonRepository.class);
+        personMapperService = context.getBean(PersonMapperService.class);
+        context.getBean(JdbcTemplate.class).update("INSERT INTO PERSON (NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE, UPDATE_DATE) "
+                + "SELECT 'P' || LPAD(X, 7, '0'), DATEADD('DAY', -MOD(X, 20000) - 7000, CURRENT_DATE), "
+                + "DATEADD('DAY', -MOD(X, 9000), CURRENT_DATE), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, ?)", rows - 3);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PersonDTO findOneEntity() {
+        return personRepository.findById(this.randomId()).map(personMapperService::toPersonDTO).orElseThrow();
+    }
+
+    @Benchmark
+    public VersionedPersonDTO findOneProjection() {
+        return personRepository.findVersionedPersonById(this.randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public PersonDTO findDatesProjection() {
+        return personRepository.findDatesById(this.randomId()).orElseThrow();
+    }
+
+    @Benchmark
+    public List<PersonDTO> findAllEntities() {
+        return personRepository.findAllByOrderByNameAsc().stream().map(personMapperService::toPersonDTO).toList();
+    }
+
+    @Benchmark
+    public List<PersonDTO> findAllProjection() {
+        return personRepository.findAllPersonDTOByOrderByNameAsc();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1);
+    }
+
+}
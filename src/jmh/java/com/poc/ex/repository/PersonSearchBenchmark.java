@@ -0,0 +1,82 @@
+package com.poc.ex.repository;
+
+import com.poc.ex.ExApplication;
+import com.poc.ex.model.dto.PersonSearchDTO;
+import com.poc.ex.model.dto.PersonSearchResultDTO;
+import com.poc.ex.service.PersonService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search over a large table. The setup prints the H2 plans of the equivalent SQL so index usage
+ * can be checked next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PersonSearchBenchmark {
+
+    private static final List<String> PLANS = List.of(
+            "EXPLAIN SELECT * FROM PERSON WHERE NAME LIKE 'P00012%' ORDER BY NAME, ID LIMIT 50",
+            "EXPLAIN SELECT * FROM PERSON WHERE HIRE_DATE <= DATE '2020-01-01' ORDER BY HIRE_DATE DESC, ID LIMIT 50",
+            "EXPLAIN SELECT * FROM PERSON WHERE BIRTH_DATE BETWEEN DATE '1980-01-01' AND DATE '1980-01-31' ORDER BY NAME, ID LIMIT 50");
+
+    @Param({"1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PersonService personService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.com.poc.ex=warn", "person.derived.warm-up=false")
+                .run();
+        personService = context.getBean(PersonService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("INSERT INTO PERSON (NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE, UPDATE_DATE) "
+                + "SELECT 'P' || LPAD(X, 7, '0'), DATEADD('DAY', -MOD(X, 20000) - 7000, CURRENT_DATE), "
+                + "DATEADD('DAY', -MOD(X, 9000), CURRENT_DATE), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, ?)", rows);
+        jdbcTemplate.execute("ANALYZE");
+        for (String plan : PLANS) {
+            System.out.println(jdbcTemplate.queryForObject(plan, String.class));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PersonSearchResultDTO searchByNamePrefix() {
+        return personService.searchPersons(PersonSearchDTO.builder().name("P00012").build(),
+                PageRequest.of(0, 50, Sort.by("name")));
+    }
+
+    @Benchmark
+    public PersonSearchResultDTO searchHiredBefore() {
+        return personService.searchPersons(PersonSearchDTO.builder().hireDateTo(LocalDate.of(2020, 1, 1)).build(),
+                PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "hireDate")));
+    }
+
+    @Benchmark
+    public PersonSearchResultDTO searchBirthDateRange() {
+        return personService.searchPersons(PersonSearchDTO.builder().birthDateFrom(LocalDate.of(1980, 1, 1)).birthDateTo(LocalDate.of(1980, 1, 31)).build(),
+                PageRequest.of(0, 50, Sort.by("name")));
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.ExApplication;
+import com.poc.ex.cache.PersonCacheService;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.service.PersonService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FindOnePersonBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private PersonService personService;
+    private PersonCacheService personCacheService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.com.poc.ex=warn")
+                .run();
+        personService = context.getBean(PersonService.class);
+        personCacheService = context.getBean(PersonCacheService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<PersonDTO> findOnePersonFromDatabase() {
+        personCacheService.evict(1L);
+        return personService.findOnePerson(1L);
+    }
+
+    @Benchmark
+    public Optional<PersonDTO> findOnePersonFromCache() {
+        return personService.findOnePerson(1L);
+    }
+
+}
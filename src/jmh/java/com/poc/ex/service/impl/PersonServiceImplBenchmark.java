@@ -0,0 +1,51 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.enumeration.AgeType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonServiceImplBenchmark {
+
+    @Param({"0", "5", "20", "50"})
+    private int hireYears;
+
+    @Param({"days", "months", "years"})
+    private AgeType ageType;
+
+    private PersonServiceImpl personService;
+    private LocalDate hireDate;
+    private LocalDate birthDate;
+
+    @Setup
+    public void setUp() {
+        personService = new PersonServiceImpl(null, null, null, null, null, null, null, Clock.systemDefaultZone(), null, new SimpleMeterRegistry());
+        hireDate = LocalDate.now().minusYears(hireYears);
+        birthDate = LocalDate.now().minusYears(30).minusMonths(7).minusDays(11);
+    }
+
+    @Benchmark
+    public BigDecimal calculateFullSalary() {
+        return personService.calculateFullSalary(hireDate);
+    }
+
+    @Benchmark
+    public BigDecimal calculateMinSalary() {
+        return personService.calculateMinSalary(hireDate);
+    }
+
+    @Benchmark
+    public long calculatePersonAge() {
+        return personService.calculatePersonAge(birthDate, ageType);
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.ExApplication;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonService;
+import com.poc.ex.validation.exception.PersonNotFoundException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many threads asking for the same key at once. The repository methods are the uncoalesced baseline, where
+ * every caller runs its own query; the service methods share one load per key among concurrent callers.
+ * The missing id is the case the cache cannot absorb, since not-found results are never stored.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PersonServiceImplHerdBenchmark {
+
+    private static final long MISSING_ID = Long.MAX_VALUE;
+
+    @Param({"1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private PersonRepository personRepository;
+    private PersonService personService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ExApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.com.poc.ex=warn", "person.derived.warm-up=false")
+                .run();
+        personRepository = context.getBean(PersonRepository.class);
+        personService = context.getBean(PersonService.class);
+        context.getBean(JdbcTemplate.class).update("INSERT INTO PERSON (NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE, UPDATE_DATE) "
+                + "SELECT 'P' || LPAD(X, 7, '0'), DATEADD('DAY', -MOD(X, 20000) - 7000, CURRENT_DATE), "
+                + "DATEADD('DAY', -MOD(X, 9000), CURRENT_DATE), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, ?)", rows - 3);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<PersonDTO> listRepository() {
+        return personRepository.findAllPersonDTOByOrderByNameAsc();
+    }
+
+    @Benchmark
+    public List<PersonDTO> listCoalesced() {
+        return personService.findAllPersonOrderByName();
+    }
+
+    @Benchmark
+    public Optional<VersionedPersonDTO> missingRepository() {
+        return personRepository.findVersionedPersonById(MISSING_ID);
+    }
+
+    @Benchmark
+    public PersonNotFoundException missingCoalesced() {
+        try {
+            personService.findOneVersionedPerson(MISSING_ID);
+            throw new IllegalStateException("Person should not exist");
+        } catch (PersonNotFoundException ex) {
+            return ex;
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.poc.ex.validation.annotation.validator;
+
+import com.poc.ex.model.dto.PersonDTO;
+import org.openjdk.jmh.annotations.*;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BirthDateBeforeHireDateValidatorBenchmark {
+
+    private final BirthDateBeforeHireDateValidator validator = new BirthDateBeforeHireDateValidator();
+    private final PersonDTO validPersonDTO = new PersonDTO("ADAM", LocalDate.of(1984, 12, 4), LocalDate.of(2023, 5, 1));
+    private final PersonDTO invalidPersonDTO = new PersonDTO("ADAM", LocalDate.of(2023, 5, 1), LocalDate.of(1984, 12, 4));
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(validPersonDTO, null);
+    }
+
+    @Benchmark
+    public boolean isInvalid() {
+        return validator.isValid(invalidPersonDTO, null);
+    }
+
+}
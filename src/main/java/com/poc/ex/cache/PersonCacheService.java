@@ -0,0 +1,14 @@
+package com.poc.ex.cache;
+
+import com.poc.ex.model.dto.PersonCacheStatsDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import java.util.Optional;
+import java.util.function.Function;
+
+public interface PersonCacheService {
+    Optional<VersionedPersonDTO> get(Long id, Function<Long, VersionedPersonDTO> loader);
+    Optional<VersionedPersonDTO> getIfPresent(Long id);
+    void evict(Long id);
+    void evictAll();
+    PersonCacheStatsDTO stats();
+}
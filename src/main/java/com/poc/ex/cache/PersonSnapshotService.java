@@ -0,0 +1,19 @@
+package com.poc.ex.cache;
+
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonSnapshotStatsDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import java.util.List;
+import java.util.Optional;
+
+public interface PersonSnapshotService {
+    boolean isReady();
+    Optional<VersionedPersonDTO> findVersionedPerson(Long id);
+    Optional<PersonDTO> findDates(Long id);
+    List<PersonDTO> findAllOrderByName();
+    PersonCollectionVersionDTO findCollectionVersion();
+    void refresh(Long id);
+    void reload();
+    PersonSnapshotStatsDTO stats();
+}
@@ -0,0 +1,74 @@
+package com.poc.ex.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.poc.ex.cache.PersonCacheService;
+import com.poc.ex.model.dto.PersonCacheStatsDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Service
+public class PersonCacheServiceImpl implements PersonCacheService, MeterBinder {
+
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    private final Cache<Long, VersionedPersonDTO> cache;
+
+    public PersonCacheServiceImpl(@Value("${person.cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${person.cache.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats(() -> statsCounter)
+                .build();
+    }
+
+    @Override
+    public Optional<VersionedPersonDTO> get(Long id, Function<Long, VersionedPersonDTO> loader) {
+        return Optional.ofNullable(cache.get(id, loader));
+    }
+
+    // Peeks without recording a miss, so a miss is counted once by the load that follows it.
+    @Override
+    public Optional<VersionedPersonDTO> getIfPresent(Long id) {
+        VersionedPersonDTO cached = cache.policy().getIfPresentQuietly(id);
+        if(cached != null) { statsCounter.recordHits(1); }
+        return Optional.ofNullable(cached);
+    }
+
+    @Override
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    @Override
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "person");
+    }
+
+    @Override
+    public PersonCacheStatsDTO stats() {
+        CacheStats stats = cache.stats();
+        return PersonCacheStatsDTO.builder()
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+}
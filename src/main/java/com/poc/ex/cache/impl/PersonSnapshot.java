@@ -0,0 +1,198 @@
+package com.poc.ex.cache.impl;
+
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import java.lang.reflect.Array;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable column-wise copy of the person table. Rows are stored in (name, id) order so the list endpoint is a
+ * straight scan, dates are epoch days, update dates are epoch micros and ids resolve by binary search over a sorted
+ * copy of the id column, so the index costs the same whatever gaps deletes or sequence jumps leave in the ids.
+ * Writers never mutate an instance; {@link #with} and {@link #without} return a new one.
+ */
+final class PersonSnapshot {
+
+    static final PersonSnapshot EMPTY = new PersonSnapshot(new long[0], new String[0], new int[0], new int[0], new long[0], new long[0]);
+
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private final long[] ids;
+    private final String[] names;
+    private final int[] birthDays;
+    private final int[] hireDays;
+    private final long[] updateMicros;
+    private final long[] versions;
+    private final long[] sortedIds;
+    private final int[] rowBySortedId;
+    private final long lastUpdateMicros;
+
+    private PersonSnapshot(long[] ids, String[] names, int[] birthDays, int[] hireDays, long[] updateMicros, long[] versions) {
+        this.ids = ids;
+        this.names = names;
+        this.birthDays = birthDays;
+        this.hireDays = hireDays;
+        this.updateMicros = updateMicros;
+        this.versions = versions;
+        this.sortedIds = ids.clone();
+        Arrays.sort(sortedIds);
+        this.rowBySortedId = new int[ids.length];
+        long lastUpdate = NO_DATE;
+        for (int i = 0; i < ids.length; i++) {
+            rowBySortedId[Arrays.binarySearch(sortedIds, ids[i])] = i;
+            lastUpdate = Math.max(lastUpdate, updateMicros[i]);
+        }
+        this.lastUpdateMicros = lastUpdate;
+    }
+
+    static PersonSnapshot of(List<Row> rows) {
+        List<Row> sorted = new ArrayList<>(rows);
+        sorted.sort(Comparator.comparing(Row::name).thenComparingLong(Row::id));
+        int size = sorted.size();
+        long[] ids = new long[size];
+        String[] names = new String[size];
+        int[] birthDays = new int[size];
+        int[] hireDays = new int[size];
+        long[] updateMicros = new long[size];
+        long[] versions = new long[size];
+        for (int i = 0; i < size; i++) {
+            Row row = sorted.get(i);
+            ids[i] = row.id();
+            names[i] = row.name().intern();
+            birthDays[i] = (int) row.birthDate().toEpochDay();
+            hireDays[i] = (int) row.hireDate().toEpochDay();
+            updateMicros[i] = toMicros(row.updateDate());
+            versions[i] = row.version() == null ? 0 : row.version();
+        }
+        return new PersonSnapshot(ids, names, birthDays, hireDays, updateMicros, versions);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    VersionedPersonDTO find(long id) {
+        int index = this.indexOf(id);
+        if(index < 0) return null;
+        return new VersionedPersonDTO(names[index], LocalDate.ofEpochDay(birthDays[index]), LocalDate.ofEpochDay(hireDays[index]),
+                toDateTime(updateMicros[index]), versions[index]);
+    }
+
+    PersonDTO findDates(long id) {
+        int index = this.indexOf(id);
+        if(index < 0) return null;
+        return new PersonDTO(null, LocalDate.ofEpochDay(birthDays[index]), LocalDate.ofEpochDay(hireDays[index]));
+    }
+
+    List<PersonDTO> findAllOrderByName() {
+        PersonDTO[] persons = new PersonDTO[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            persons[i] = new PersonDTO(names[i], LocalDate.ofEpochDay(birthDays[i]), LocalDate.ofEpochDay(hireDays[i]));
+        }
+        return Collections.unmodifiableList(Arrays.asList(persons));
+    }
+
+    PersonCollectionVersionDTO collectionVersion() {
+        return new PersonCollectionVersionDTO((long) ids.length, toDateTime(lastUpdateMicros));
+    }
+
+    PersonSnapshot with(Row row) {
+        PersonSnapshot base = this.indexOf(row.id()) < 0 ? this : this.without(row.id());
+        return base.insert(row);
+    }
+
+    PersonSnapshot without(long id) {
+        int index = this.indexOf(id);
+        if(index < 0) return this;
+        int size = ids.length - 1;
+        return new PersonSnapshot(remove(ids, new long[size], index), remove(names, new String[size], index),
+                remove(birthDays, new int[size], index), remove(hireDays, new int[size], index),
+                remove(updateMicros, new long[size], index), remove(versions, new long[size], index));
+    }
+
+    // Assumes compressed oops: 16-byte array headers, 4-byte references and a Latin-1 String of 24 bytes plus
+    // its 16-byte array header. Interned names shared by several rows are counted once.
+    long estimatedBytes() {
+        long bytes = 16L * 8 + ids.length * (8L + 4 + 4 + 4 + 8 + 8 + 8 + 4);
+        Map<String, Boolean> distinct = new IdentityHashMap<>();
+        for (String name : names) {
+            if(distinct.put(name, Boolean.TRUE) == null) bytes += 24 + 16 + name.length();
+        }
+        return bytes;
+    }
+
+    private PersonSnapshot insert(Row row) {
+        String name = row.name().intern();
+        int index = this.insertionPoint(name, row.id());
+        int size = ids.length + 1;
+        long[] newIds = insert(ids, new long[size], index);
+        String[] newNames = insert(names, new String[size], index);
+        int[] newBirthDays = insert(birthDays, new int[size], index);
+        int[] newHireDays = insert(hireDays, new int[size], index);
+        long[] newUpdateMicros = insert(updateMicros, new long[size], index);
+        long[] newVersions = insert(versions, new long[size], index);
+        newIds[index] = row.id();
+        newNames[index] = name;
+        newBirthDays[index] = (int) row.birthDate().toEpochDay();
+        newHireDays[index] = (int) row.hireDate().toEpochDay();
+        newUpdateMicros[index] = toMicros(row.updateDate());
+        newVersions[index] = row.version() == null ? 0 : row.version();
+        return new PersonSnapshot(newIds, newNames, newBirthDays, newHireDays, newUpdateMicros, newVersions);
+    }
+
+    private int indexOf(long id) {
+        int slot = Arrays.binarySearch(sortedIds, id);
+        return slot < 0 ? -1 : rowBySortedId[slot];
+    }
+
+    private int insertionPoint(String name, long id) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int compare = names[mid].compareTo(name);
+            if(compare < 0 || (compare == 0 && ids[mid] < id)) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private static <T> T remove(T source, T target, int index) {
+        int length = Array.getLength(source);
+        System.arraycopy(source, 0, target, 0, index);
+        System.arraycopy(source, index + 1, target, index, length - index - 1);
+        return target;
+    }
+
+    private static <T> T insert(T source, T target, int index) {
+        int length = Array.getLength(source);
+        System.arraycopy(source, 0, target, 0, index);
+        System.arraycopy(source, index, target, index + 1, length - index);
+        return target;
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        if(dateTime == null) return NO_DATE;
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime toDateTime(long micros) {
+        if(micros == NO_DATE) return null;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, MICROS_PER_SECOND), (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC);
+    }
+
+    record Row(long id, String name, LocalDate birthDate, LocalDate hireDate, LocalDateTime updateDate, Long version) {
+    }
+
+}
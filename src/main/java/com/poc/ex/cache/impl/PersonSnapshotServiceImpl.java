@@ -0,0 +1,172 @@
+package com.poc.ex.cache.impl;
+
+import com.poc.ex.cache.PersonSnapshotService;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonSnapshotStatsDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.repository.PersonRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class PersonSnapshotServiceImpl implements PersonSnapshotService, MeterBinder {
+
+    private final PersonRepository personRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private static final int ROW_LOCK_STRIPES = 64;
+
+    private final boolean enabled;
+    private final Object[] rowLocks = new Object[ROW_LOCK_STRIPES];
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final Set<Long> refreshedDuringReload = ConcurrentHashMap.newKeySet();
+    private final AtomicLong publishCount = new AtomicLong();
+    private final AtomicReference<PersonSnapshot> snapshot = new AtomicReference<>();
+    private volatile boolean reloading;
+
+    public PersonSnapshotServiceImpl(PersonRepository personRepository,
+                                     EntityManager entityManager,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${person.snapshot.enabled:false}") boolean enabled) {
+        this.personRepository = personRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        for (int i = 0; i < ROW_LOCK_STRIPES; i++) { rowLocks[i] = new Object(); }
+    }
+
+    @Override
+    public boolean isReady() {
+        return snapshot.get() != null;
+    }
+
+    @Override
+    public Optional<VersionedPersonDTO> findVersionedPerson(Long id) {
+        return Optional.ofNullable(this.current().find(id));
+    }
+
+    @Override
+    public Optional<PersonDTO> findDates(Long id) {
+        return Optional.ofNullable(this.current().findDates(id));
+    }
+
+    @Override
+    public List<PersonDTO> findAllOrderByName() {
+        return this.current().findAllOrderByName();
+    }
+
+    @Override
+    public PersonCollectionVersionDTO findCollectionVersion() {
+        return this.current().collectionVersion();
+    }
+
+    // Refreshes of the same row serialize on its lock stripe, so the last one to run re-reads the latest commit even
+    // when two writers of the row finish out of order. Rows on other stripes read and copy in parallel and only
+    // meet at the compare-and-set. A refresh that overlaps a reload is replayed once the reload has published,
+    // since the reload may have read the row before this commit.
+    @Override
+    public void refresh(Long id) {
+        if(!enabled) return;
+        if(reloading) { refreshedDuringReload.add(id); }
+        if(snapshot.get() == null) return;
+        synchronized (rowLocks[Math.floorMod(Long.hashCode(id), ROW_LOCK_STRIPES)]) {
+            Optional<PersonSnapshot.Row> row = personRepository.findVersionedPersonById(id).map(versioned -> toRow(id, versioned));
+            this.publish(current -> row.map(current::with).orElseGet(() -> current.without(id)));
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${person.snapshot.reload-interval:PT10M}", initialDelayString = "${person.snapshot.reload-interval:PT10M}")
+    public void reload() {
+        if(!enabled) return;
+        log.info("state=init-reload-person-snapshot");
+        reloadLock.lock();
+        try {
+            reloading = true;
+            List<PersonSnapshot.Row> rows = new ArrayList<>();
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Person> persons = personRepository.streamAllByOrderByNameAsc()) {
+                    persons.forEach(person -> {
+                        rows.add(new PersonSnapshot.Row(person.getId(), person.getName(), person.getBirthDate(), person.getHireDate(),
+                                person.getUpdateDate(), person.getVersion()));
+                        entityManager.detach(person);
+                    });
+                }
+            });
+            PersonSnapshot loaded = PersonSnapshot.of(rows);
+            this.publish(current -> loaded);
+        } finally {
+            reloading = false;
+            reloadLock.unlock();
+        }
+        for (Long id : refreshedDuringReload) {
+            refreshedDuringReload.remove(id);
+            this.refresh(id);
+        }
+        log.info("state=end-success-reload-person-snapshot, size={}", this.current().size());
+    }
+
+    @Override
+    public PersonSnapshotStatsDTO stats() {
+        PersonSnapshot current = this.current();
+        return PersonSnapshotStatsDTO.builder()
+                .size(current.size())
+                .estimatedBytes(current.estimatedBytes())
+                .publishCount(publishCount.get())
+                .build();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if(!enabled) return;
+        Gauge.builder("person.snapshot.size", this, service -> service.current().size()).register(registry);
+        Gauge.builder("person.snapshot.publishes", publishCount, AtomicLong::get).register(registry);
+    }
+
+    // The copy is built outside any lock and retried if another publish won the race.
+    private void publish(UnaryOperator<PersonSnapshot> change) {
+        PersonSnapshot current;
+        PersonSnapshot next;
+        do {
+            current = snapshot.get();
+            next = change.apply(current);
+        } while (!snapshot.compareAndSet(current, next));
+        publishCount.incrementAndGet();
+    }
+
+    private PersonSnapshot current() {
+        PersonSnapshot current = snapshot.get();
+        return current != null ? current : PersonSnapshot.EMPTY;
+    }
+
+    private static PersonSnapshot.Row toRow(Long id, VersionedPersonDTO versioned) {
+        return new PersonSnapshot.Row(id, versioned.person().name(), versioned.person().birthDate(), versioned.person().hireDate(),
+                versioned.updateDate(), versioned.version());
+    }
+
+}
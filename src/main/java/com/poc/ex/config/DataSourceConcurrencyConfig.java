@@ -0,0 +1,30 @@
+package com.poc.ex.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "person.datasource.max-concurrency")
+public class DataSourceConcurrencyConfig {
+
+    @Bean
+    static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if(bean instanceof DataSource dataSource && !(bean instanceof BoundedDataSource)) {
+                    return new BoundedDataSource(dataSource,
+                            environment.getRequiredProperty("person.datasource.max-concurrency", Integer.class),
+                            environment.getProperty("person.datasource.acquire-timeout", Duration.class, Duration.ofSeconds(5)));
+                }
+                return bean;
+            }
+        };
+    }
+
+}
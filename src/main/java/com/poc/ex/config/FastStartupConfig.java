@@ -0,0 +1,26 @@
+package com.poc.ex.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfig {
+
+    // springdoc pins its beans with @Lazy(false), so spring.main.lazy-initialization never reaches them. The request
+    // path stays eager; the OpenAPI model and Swagger UI resources are built when the docs are first opened.
+    @Bean
+    public static BeanFactoryPostProcessor lazyOpenApiPostProcessor() {
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                Class<?> beanType = beanFactory.getType(beanName, false);
+                if(beanType != null && beanType.getName().startsWith("org.springdoc")) {
+                    beanFactory.getBeanDefinition(beanName).setLazyInit(true);
+                }
+            }
+        };
+    }
+
+}
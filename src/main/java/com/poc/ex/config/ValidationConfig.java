@@ -0,0 +1,35 @@
+package com.poc.ex.config;
+
+import com.poc.ex.model.dto.PersonCalculationRequestDTO;
+import org.hibernate.validator.HibernateValidatorConfiguration;
+import org.hibernate.validator.cfg.ConstraintMapping;
+import org.hibernate.validator.cfg.defs.SizeDef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.validation.ValidationConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import java.time.Clock;
+
+@Configuration
+public class ValidationConfig {
+
+    @Bean
+    public ValidationConfigurationCustomizer clockProviderCustomizer(Clock clock) {
+        return configuration -> configuration.clockProvider(() -> clock);
+    }
+
+    // Annotation values are compile-time constants, so a lower limit is layered on top of @Size as a programmatic mapping.
+    @Bean
+    public ValidationConfigurationCustomizer calculationIdsLimitCustomizer(@Value("${person.calculations.max-ids:1000}") int maxIds) {
+        if(maxIds < 1 || maxIds > PersonCalculationRequestDTO.MAX_IDS) { throw new IllegalArgumentException("Invalid calculation ids limit"); }
+        return configuration -> {
+            if(maxIds == PersonCalculationRequestDTO.MAX_IDS || !(configuration instanceof HibernateValidatorConfiguration hibernateConfiguration)) { return; }
+            ConstraintMapping mapping = hibernateConfiguration.createConstraintMapping();
+            mapping.type(PersonCalculationRequestDTO.class)
+                    .field("ids")
+                    .constraint(new SizeDef().max(maxIds).message(PersonCalculationRequestDTO.IDS_SIZE_MESSAGE));
+            hibernateConfiguration.addMapping(mapping);
+        };
+    }
+
+}
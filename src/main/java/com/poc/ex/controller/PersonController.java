@@ -1,69 +1,248 @@
 package com.poc.ex.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.poc.ex.model.dto.PersonCalculationRequestDTO;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
 import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonSearchDTO;
+import com.poc.ex.model.dto.PersonWriteStatusDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
 import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.ExportFormat;
 import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.service.PersonAnalyticsService;
+import com.poc.ex.service.PersonExportService;
+import com.poc.ex.service.PersonImportService;
+import com.poc.ex.service.PersonOutboxService;
 import com.poc.ex.service.PersonService;
+import com.poc.ex.service.PersonWriteBehindService;
+import com.poc.ex.validation.exception.PersonVersionMismatchException;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @Slf4j
+@Profile("!reactive")
 @AllArgsConstructor
 public class PersonController {
 
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String GZIP = "gzip";
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+    private static final int EXPORT_BUFFER_SIZE = 8192;
+
     private final PersonService personService;
+    private final PersonImportService personImportService;
+    private final PersonAnalyticsService personAnalyticsService;
+    private final PersonWriteBehindService personWriteBehindService;
+    private final PersonExportService personExportService;
+    private final PersonOutboxService personOutboxService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/person/{id}")
-    public ResponseEntity<Object> getOnePerson(@PathVariable(value = "id") Long id) {
-        return new ResponseEntity<>(personService.findOnePerson(id), HttpStatus.OK);
+    public ResponseEntity<Object> getOnePerson(@PathVariable(value = "id") Long id, WebRequest request) {
+        VersionedPersonDTO versionedPerson = personService.findOneVersionedPerson(id);
+        String eTag = id + "-" + versionedPerson.version();
+        long lastModified = toEpochMilli(versionedPerson.updateDate(), -1);
+        if(request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).lastModified(lastModified).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(versionedPerson.person());
     }
 
     @GetMapping("/person/{id}/age")
     public ResponseEntity<Object> getAgePerson(@PathVariable(value = "id") Long id,
-                                               @RequestParam AgeType ageType) {
-        return new ResponseEntity<>(personService.findPersonAge(id, ageType), HttpStatus.OK);
+                                               @RequestParam AgeType ageType,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return new ResponseEntity<>(personService.findPersonAge(id, ageType, asOf), HttpStatus.OK);
     }
 
     @GetMapping("/person/{id}/salary")
     public ResponseEntity<Object> getSalaryPerson(@PathVariable(value = "id") Long id,
-                                                  @RequestParam SalaryType salaryType) {
-        return new ResponseEntity<>(personService.findPersonSalary(id, salaryType), HttpStatus.OK);
+                                                  @RequestParam SalaryType salaryType,
+                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return new ResponseEntity<>(personService.findPersonSalary(id, salaryType, asOf), HttpStatus.OK);
+    }
+
+    @PostMapping("/person/calculations")
+    public ResponseEntity<Object> getPersonsAgeAndSalary(@Valid @RequestBody PersonCalculationRequestDTO request,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return new ResponseEntity<>(personService.findPersonsAgeAndSalary(request.ids(), request.ageType(), request.salaryType(), asOf), HttpStatus.OK);
     }
 
     @GetMapping("/person")
-    public ResponseEntity<Object> getPersons() {
-        return new ResponseEntity<>(personService.findAllPersonOrderByName(), HttpStatus.OK);
+    public ResponseEntity<Object> getPersons(WebRequest request) {
+        PersonCollectionVersionDTO version = personService.findPersonCollectionVersion();
+        String eTag = "persons-" + version.count() + "-" + toEpochMilli(version.lastUpdateDate(), 0);
+        long lastModified = toEpochMilli(version.lastUpdateDate(), -1);
+        if(request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).lastModified(lastModified).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).lastModified(lastModified).body(personService.findAllPersonOrderByName());
+    }
+
+    @GetMapping("/person/page")
+    public ResponseEntity<Object> getPagePersons(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "50") int size) {
+        return new ResponseEntity<>(personService.findPagePersonOrderByName(cursor, size), HttpStatus.OK);
+    }
+
+    @GetMapping("/person/analytics")
+    public ResponseEntity<Object> getPersonAnalytics(@RequestParam(defaultValue = "5") int bandYears,
+                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return new ResponseEntity<>(personAnalyticsService.findPersonAnalytics(bandYears, asOf), HttpStatus.OK);
+    }
+
+    @GetMapping("/person/search")
+    public ResponseEntity<Object> searchPersons(PersonSearchDTO search,
+                                                @PageableDefault(size = 50, sort = "name") Pageable pageable) {
+        return new ResponseEntity<>(personService.searchPersons(search, pageable), HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/person/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPersons() {
+        ObjectWriter writer = objectMapper.writerFor(PersonDTO.class);
+        StreamingResponseBody body = out -> personService.streamAllPersonOrderByName(personDTO -> {
+            try {
+                out.write(writer.writeValueAsBytes(personDTO));
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    @GetMapping("/person/export")
+    public ResponseEntity<StreamingResponseBody> exportPersons(@RequestParam(defaultValue = "csv") ExportFormat format,
+                                                               @RequestParam(defaultValue = "years") AgeType ageType,
+                                                               @RequestParam(defaultValue = "full") SalaryType salaryType,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+                                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains(GZIP);
+        StreamingResponseBody body = out -> personExportService.exportPersons(format, ageType, salaryType, asOf,
+                gzip ? new GZIPOutputStream(out, EXPORT_BUFFER_SIZE) : out);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format == ExportFormat.csv ? TEXT_CSV : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("persons." + format.name()).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if(gzip) { response.header(HttpHeaders.CONTENT_ENCODING, GZIP); }
+        return response.body(body);
+    }
+
+    @GetMapping("/person/changes")
+    public CompletableFuture<ResponseEntity<Object>> getPersonChanges(@RequestParam(defaultValue = "0") long after,
+                                                                      @RequestParam(defaultValue = "100") int limit,
+                                                                      @RequestParam(defaultValue = "0") long waitSeconds) {
+        return personOutboxService.awaitChanges(after, limit, Duration.ofSeconds(waitSeconds))
+                .thenApply(feed -> new ResponseEntity<>(feed, HttpStatus.OK));
+    }
+
+    @GetMapping("/person/writes/{writeId}")
+    public ResponseEntity<Object> getPersonWrite(@PathVariable(value = "writeId") String writeId) {
+        return new ResponseEntity<>(personWriteBehindService.findWriteStatus(writeId), HttpStatus.OK);
     }
 
     @PostMapping
-    public ResponseEntity<Object> savePerson(@Valid @RequestBody PersonDTO personDto) {
+    public ResponseEntity<Object> savePerson(@Valid @RequestBody PersonDTO personDto,
+                                             @RequestHeader(value = PREFER, required = false) String prefer) {
+        if(this.isRespondAsync(prefer)) { return this.acceptWrite(WriteOperation.create, null, personDto); }
         personService.savePerson(personDto);
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/person/import", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<Object> importPersons(HttpServletRequest request) throws IOException {
+        try (MappingIterator<PersonDTO> persons = objectMapper.readerFor(PersonDTO.class).readValues(request.getInputStream())) {
+            return new ResponseEntity<>(personImportService.importPersons(persons), HttpStatus.OK);
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Object> updatePerson(@PathVariable(value = "id") Long id,
-                                               @Valid @RequestBody PersonDTO personDto) {
-        personService.updateAllFieldsPerson(id, personDto);
+                                               @Valid @RequestBody PersonDTO personDto,
+                                               @RequestHeader(value = PREFER, required = false) String prefer,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if(ifMatch == null && this.isRespondAsync(prefer)) { return this.acceptWrite(WriteOperation.update, id, personDto); }
+        personService.updateAllFieldsPerson(id, personDto, toExpectedVersion(id, ifMatch));
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
     @PatchMapping("/{id}")
     public ResponseEntity<Object> partialUpdatePerson(@PathVariable(value = "id") Long id,
-                                                      @Valid @RequestBody PersonDTO personDto) {
-        personService.updateSomeFieldsPerson(id, personDto);
+                                                      @Valid @RequestBody PersonDTO personDto,
+                                                      @RequestHeader(value = PREFER, required = false) String prefer,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if(ifMatch == null && this.isRespondAsync(prefer)) { return this.acceptWrite(WriteOperation.patch, id, personDto); }
+        personService.updateSomeFieldsPerson(id, personDto, toExpectedVersion(id, ifMatch));
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
     @DeleteMapping("/person/{id}")
-    public ResponseEntity<Object> deletePerson(@PathVariable(value = "id") Long id) {
+    public ResponseEntity<Object> deletePerson(@PathVariable(value = "id") Long id,
+                                               @RequestHeader(value = PREFER, required = false) String prefer) {
+        if(this.isRespondAsync(prefer)) { return this.acceptWrite(WriteOperation.delete, id, null); }
         personService.deletePerson(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    private boolean isRespondAsync(String prefer) {
+        return prefer != null && prefer.contains(RESPOND_ASYNC) && personWriteBehindService.isEnabled();
+    }
+
+    private ResponseEntity<Object> acceptWrite(WriteOperation operation, Long id, PersonDTO personDto) {
+        PersonWriteStatusDTO accepted = personWriteBehindService.accept(operation, id, personDto);
+        return ResponseEntity.accepted()
+                .location(URI.create("/person/writes/" + accepted.writeId()))
+                .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                .body(accepted);
+    }
+
+    static Long toExpectedVersion(Long id, String ifMatch) {
+        if(ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) { return null; }
+        String eTag = ifMatch.trim();
+        if(eTag.startsWith("W/")) { eTag = eTag.substring(2); }
+        if(eTag.length() > 1 && eTag.startsWith("\"") && eTag.endsWith("\"")) { eTag = eTag.substring(1, eTag.length() - 1); }
+        String prefix = id + "-";
+        try {
+            if(!eTag.startsWith(prefix)) { throw new PersonVersionMismatchException(); }
+            return Long.valueOf(eTag.substring(prefix.length()));
+        } catch (NumberFormatException ex) {
+            throw new PersonVersionMismatchException();
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime, long defaultValue) {
+        return dateTime == null ? defaultValue : dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
 }
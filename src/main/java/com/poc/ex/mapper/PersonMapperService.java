@@ -2,9 +2,11 @@ package com.poc.ex.mapper;
 
 import com.poc.ex.model.Person;
 import com.poc.ex.model.dto.PersonDTO;
+import java.time.LocalDateTime;
 
 public interface PersonMapperService {
     PersonDTO toPersonDTO(Person person);
-    Person toPerson(PersonDTO personDTO);
-    Person toExistsPerson(Person person, PersonDTO personDTO, boolean isUpdateAll);
+    Person toPerson(PersonDTO personDTO, LocalDateTime now);
+    Person toExistsPerson(Person person, PersonDTO personDTO, boolean isUpdateAll, LocalDateTime now);
+    PersonDTO toSomeFieldsPersonDTO(PersonDTO personDTO, PersonDTO changes);
 }
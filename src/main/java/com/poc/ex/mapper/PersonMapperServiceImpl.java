@@ -6,8 +6,6 @@ import com.poc.ex.validation.exception.PersonNotFoundException;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.util.Optional;
 
 @Service
 public class PersonMapperServiceImpl implements PersonMapperService {
@@ -18,35 +16,42 @@ public class PersonMapperServiceImpl implements PersonMapperService {
     }
 
     @Override
-    public Person toPerson(PersonDTO personDTO) {
+    public Person toPerson(PersonDTO personDTO, LocalDateTime now) {
         return Person.builder()
                 .name(personDTO.name())
                 .birthDate(personDTO.birthDate())
                 .hireDate(personDTO.hireDate())
-                .updateDate(LocalDateTime.now(ZoneId.of("UTC")))
-                .createDate(LocalDateTime.now(ZoneId.of("UTC")))
+                .updateDate(now)
+                .createDate(now)
                 .build();
     }
 
     @Override
-    public Person toExistsPerson(Person person, PersonDTO personDTO, boolean isUpdateAll) {
-        if(Optional.ofNullable(person).isEmpty()) throw  new PersonNotFoundException();
-        return isUpdateAll ? this.toAllFieldsExistsPerson(person, personDTO) : this.toSomeFieldsExistsPerson(person, personDTO);
+    public Person toExistsPerson(Person person, PersonDTO personDTO, boolean isUpdateAll, LocalDateTime now) {
+        if(person == null) throw  new PersonNotFoundException();
+        return isUpdateAll ? this.toAllFieldsExistsPerson(person, personDTO, now) : this.toSomeFieldsExistsPerson(person, personDTO, now);
     }
 
-    private Person toAllFieldsExistsPerson(Person person, PersonDTO personDTO) {
+    @Override
+    public PersonDTO toSomeFieldsPersonDTO(PersonDTO personDTO, PersonDTO changes) {
+        return new PersonDTO(!StringUtils.isBlank(changes.name()) ? changes.name() : personDTO.name(),
+                changes.birthDate() != null ? changes.birthDate() : personDTO.birthDate(),
+                changes.hireDate() != null ? changes.hireDate() : personDTO.hireDate());
+    }
+
+    private Person toAllFieldsExistsPerson(Person person, PersonDTO personDTO, LocalDateTime now) {
         person.setName(personDTO.name());
         person.setBirthDate(personDTO.birthDate());
         person.setHireDate(personDTO.hireDate());
-        person.setUpdateDate(LocalDateTime.now(ZoneId.of("UTC")));
+        person.setUpdateDate(now);
         return person;
     }
 
-    private Person toSomeFieldsExistsPerson(Person person, PersonDTO personDTO) {
+    private Person toSomeFieldsExistsPerson(Person person, PersonDTO personDTO, LocalDateTime now) {
         person.setName(!StringUtils.isBlank(personDTO.name()) ? personDTO.name() : person.getName());
-        person.setBirthDate(Optional.ofNullable(personDTO.birthDate()).isPresent() ? personDTO.birthDate() : person.getBirthDate());
-        person.setHireDate(Optional.ofNullable(personDTO.hireDate()).isPresent() ? personDTO.hireDate() : person.getHireDate());
-        person.setUpdateDate(LocalDateTime.now(ZoneId.of("UTC")));
+        person.setBirthDate(personDTO.birthDate() != null ? personDTO.birthDate() : person.getBirthDate());
+        person.setHireDate(personDTO.hireDate() != null ? personDTO.hireDate() : person.getHireDate());
+        person.setUpdateDate(now);
         return person;
     }
 
@@ -0,0 +1,46 @@
+package com.poc.ex.model;
+
+import com.poc.ex.model.enumeration.WriteOperation;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Builder
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "person_outbox")
+public class PersonOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(insertable = false, updatable = false)
+    private Long seq;
+
+    @NotNull
+    private Long personId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private WriteOperation operation;
+
+    private Long personVersion;
+
+    private String name;
+
+    private LocalDate birthDate;
+
+    private LocalDate hireDate;
+
+    @NotNull
+    private LocalDateTime createDate;
+
+}
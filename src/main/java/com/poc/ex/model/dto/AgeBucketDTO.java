@@ -0,0 +1,8 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+
+@Builder
+public record AgeBucketDTO(long ageInYears,
+                           long headcount) {
+}
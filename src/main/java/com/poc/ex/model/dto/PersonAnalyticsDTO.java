@@ -0,0 +1,15 @@
+package com.poc.ex.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Builder
+public record PersonAnalyticsDTO(@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd") LocalDate asOf,
+                                 long headcount,
+                                 BigDecimal totalFullSalary,
+                                 List<TenureBandDTO> salaryByTenure,
+                                 List<AgeBucketDTO> ageDistribution) {
+}
@@ -0,0 +1,10 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+
+@Builder
+public record PersonCacheStatsDTO(long size,
+                                  long hitCount,
+                                  long missCount,
+                                  long evictionCount) {
+}
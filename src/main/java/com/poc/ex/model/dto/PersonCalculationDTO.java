@@ -0,0 +1,13 @@
+package com.poc.ex.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import java.math.BigDecimal;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PersonCalculationDTO(Long id,
+                                   Long age,
+                                   BigDecimal salary,
+                                   String error) {
+}
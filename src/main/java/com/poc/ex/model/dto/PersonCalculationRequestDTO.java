@@ -0,0 +1,20 @@
+package com.poc.ex.model.dto;
+
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import java.util.List;
+
+@Builder
+public record PersonCalculationRequestDTO(@NotEmpty @Size(max = PersonCalculationRequestDTO.MAX_IDS, message = PersonCalculationRequestDTO.IDS_SIZE_MESSAGE) List<@NotNull Long> ids,
+                                          @NotNull AgeType ageType,
+                                          @NotNull SalaryType salaryType) {
+
+    // Hard ceiling in line with the page size limit; person.calculations.max-ids can only lower it.
+    public static final int MAX_IDS = 1000;
+    public static final String IDS_SIZE_MESSAGE = "At most {max} ids allowed";
+
+}
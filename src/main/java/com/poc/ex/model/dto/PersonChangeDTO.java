@@ -0,0 +1,22 @@
+package com.poc.ex.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.poc.ex.model.enumeration.WriteOperation;
+import lombok.Builder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PersonChangeDTO(Long offset,
+                              Long personId,
+                              WriteOperation operation,
+                              Long version,
+                              PersonDTO person,
+                              LocalDateTime changeDate) {
+
+    public PersonChangeDTO(Long offset, Long personId, WriteOperation operation, Long version, String name,
+                           LocalDate birthDate, LocalDate hireDate, LocalDateTime changeDate) {
+        this(offset, personId, operation, version, operation == WriteOperation.delete ? null : new PersonDTO(name, birthDate, hireDate), changeDate);
+    }
+}
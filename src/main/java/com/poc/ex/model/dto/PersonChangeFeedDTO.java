@@ -0,0 +1,9 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+import java.util.List;
+
+@Builder
+public record PersonChangeFeedDTO(List<PersonChangeDTO> changes,
+                                  long nextOffset) {
+}
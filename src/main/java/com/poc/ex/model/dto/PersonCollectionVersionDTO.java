@@ -0,0 +1,7 @@
+package com.poc.ex.model.dto;
+
+import java.time.LocalDateTime;
+
+public record PersonCollectionVersionDTO(Long count,
+                                         LocalDateTime lastUpdateDate) {
+}
@@ -0,0 +1,53 @@
+package com.poc.ex.model.dto;
+
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import lombok.Builder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Builder
+public record PersonDerivedValuesDTO(LocalDate birthDate,
+                                     LocalDate hireDate,
+                                     LocalDate asOf,
+                                     long ageInDays,
+                                     long ageInMonths,
+                                     long ageInYears,
+                                     BigDecimal minSalary,
+                                     BigDecimal fullSalary) {
+
+    public long age(AgeType ageType) {
+        validateDate(birthDate, asOf);
+        return switch(ageType){
+            case AgeType.days -> ageInDays;
+            case AgeType.months -> ageInMonths;
+            case AgeType.years -> ageInYears;
+        };
+    }
+
+    public BigDecimal salary(SalaryType salaryType) {
+        validateDate(hireDate, asOf);
+        return switch(salaryType){
+            case SalaryType.full -> fullSalary;
+            case SalaryType.min -> minSalary;
+        };
+    }
+
+    public boolean hasAge() {
+        return isValidDate(birthDate, asOf);
+    }
+
+    public boolean hasSalary() {
+        return isValidDate(hireDate, asOf);
+    }
+
+    public static boolean isValidDate(LocalDate date, LocalDate asOf) {
+        return date != null && !date.isAfter(asOf);
+    }
+
+    private static void validateDate(LocalDate date, LocalDate asOf) {
+        if(date == null) { throw new IllegalArgumentException("Invalid date"); }
+        if(date.isAfter(asOf)) { throw new IllegalArgumentException("Invalid future date"); }
+    }
+
+}
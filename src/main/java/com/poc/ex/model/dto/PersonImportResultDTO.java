@@ -0,0 +1,10 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+import java.util.List;
+
+@Builder
+public record PersonImportResultDTO(long total,
+                                    long imported,
+                                    List<PersonImportErrorDTO> failures) {
+}
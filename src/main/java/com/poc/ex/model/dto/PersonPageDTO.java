@@ -0,0 +1,9 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+import java.util.List;
+
+@Builder
+public record PersonPageDTO(List<PersonDTO> persons,
+                            String nextCursor) {
+}
@@ -0,0 +1,13 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDate;
+
+@Builder
+public record PersonSearchDTO(String name,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthDateFrom,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate birthDateTo,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hireDateFrom,
+                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate hireDateTo) {
+}
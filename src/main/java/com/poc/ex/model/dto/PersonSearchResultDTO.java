@@ -0,0 +1,11 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+import java.util.List;
+
+@Builder
+public record PersonSearchResultDTO(List<PersonDTO> persons,
+                                    int page,
+                                    int size,
+                                    boolean hasNext) {
+}
@@ -0,0 +1,9 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+
+@Builder
+public record PersonSnapshotStatsDTO(long size,
+                                     long estimatedBytes,
+                                     long publishCount) {
+}
@@ -0,0 +1,18 @@
+package com.poc.ex.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.model.enumeration.WriteStatus;
+import lombok.Builder;
+import java.time.LocalDateTime;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PersonWriteStatusDTO(String writeId,
+                                   WriteOperation operation,
+                                   Long personId,
+                                   WriteStatus status,
+                                   String error,
+                                   LocalDateTime acceptedDate,
+                                   LocalDateTime completedDate) {
+}
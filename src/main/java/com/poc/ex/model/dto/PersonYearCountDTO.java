@@ -0,0 +1,6 @@
+package com.poc.ex.model.dto;
+
+public record PersonYearCountDTO(Integer year,
+                                 Integer anniversaryPending,
+                                 Long count) {
+}
@@ -0,0 +1,11 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+import java.math.BigDecimal;
+
+@Builder
+public record TenureBandDTO(long fromYears,
+                            long toYears,
+                            long headcount,
+                            BigDecimal totalFullSalary) {
+}
@@ -0,0 +1,15 @@
+package com.poc.ex.model.dto;
+
+import lombok.Builder;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Builder
+public record VersionedPersonDTO(PersonDTO person,
+                                 LocalDateTime updateDate,
+                                 Long version) {
+
+    public VersionedPersonDTO(String name, LocalDate birthDate, LocalDate hireDate, LocalDateTime updateDate, Long version) {
+        this(new PersonDTO(name, birthDate, hireDate), updateDate, version);
+    }
+}
@@ -0,0 +1,6 @@
+package com.poc.ex.model.enumeration;
+
+public enum ExportFormat {
+    csv,
+    ndjson
+}
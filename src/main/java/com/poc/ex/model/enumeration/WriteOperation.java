@@ -0,0 +1,8 @@
+package com.poc.ex.model.enumeration;
+
+public enum WriteOperation {
+    create,
+    update,
+    patch,
+    delete
+}
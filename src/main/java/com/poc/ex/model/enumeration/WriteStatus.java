@@ -0,0 +1,7 @@
+package com.poc.ex.model.enumeration;
+
+public enum WriteStatus {
+    pending,
+    applied,
+    failed
+}
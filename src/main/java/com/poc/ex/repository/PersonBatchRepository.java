@@ -0,0 +1,8 @@
+package com.poc.ex.repository;
+
+import com.poc.ex.model.Person;
+import java.util.List;
+
+public interface PersonBatchRepository {
+    void batchInsert(List<Person> persons);
+}
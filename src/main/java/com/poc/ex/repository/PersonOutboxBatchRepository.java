@@ -0,0 +1,11 @@
+package com.poc.ex.repository;
+
+import com.poc.ex.model.Person;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PersonOutboxBatchRepository {
+    int sequencePending(int limit);
+    long findLastSequence();
+    void batchAppendCreates(List<Person> persons, LocalDateTime createDate);
+}
@@ -0,0 +1,25 @@
+package com.poc.ex.repository;
+
+import com.poc.ex.model.PersonOutboxEvent;
+import com.poc.ex.model.dto.PersonChangeDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PersonOutboxRepository extends JpaRepository<PersonOutboxEvent, Long>, PersonOutboxBatchRepository {
+    @Transactional(readOnly = true)
+    @Query("""
+            select new com.poc.ex.model.dto.PersonChangeDTO(e.seq, e.personId, e.operation, e.personVersion, e.name, e.birthDate, e.hireDate, e.createDate)
+            from PersonOutboxEvent e where e.seq > :after order by e.seq asc""")
+    List<PersonChangeDTO> findChanges(@Param("after") long after, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PersonOutboxEvent e where e.seq is not null and e.createDate < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
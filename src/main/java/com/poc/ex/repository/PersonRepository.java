@@ -1,9 +1,82 @@
 package com.poc.ex.repository;
 
 import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonYearCountDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface PersonRepository extends JpaRepository<Person , Long> {
+public interface PersonRepository extends JpaRepository<Person , Long>, JpaSpecificationExecutor<Person>, PersonBatchRepository {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Person> findAllByOrderByNameAsc();
+
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.poc.ex.model.dto.PersonDTO(p.name, p.birthDate, p.hireDate) from Person p order by p.name asc")
+    List<PersonDTO> findAllPersonDTOByOrderByNameAsc();
+
+    @Transactional(readOnly = true)
+    @Query("select new com.poc.ex.model.dto.VersionedPersonDTO(p.name, p.birthDate, p.hireDate, p.updateDate, p.version) from Person p where p.id = :id")
+    Optional<VersionedPersonDTO> findVersionedPersonById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    @Query("select new com.poc.ex.model.dto.PersonDTO(cast(null as String), p.birthDate, p.hireDate) from Person p where p.id = :id")
+    Optional<PersonDTO> findDatesById(@Param("id") Long id);
+
+    List<Person> findAllByOrderByNameAscIdAsc(Pageable pageable);
+
+    @Query("select new com.poc.ex.model.dto.PersonCollectionVersionDTO(count(p), max(p.updateDate)) from Person p")
+    PersonCollectionVersionDTO findCollectionVersion();
+
+    @Query("select p from Person p where p.name > :name or (p.name = :name and p.id > :id) order by p.name asc, p.id asc")
+    List<Person> findAllAfterOrderByNameAsc(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    @Query("""
+            select new com.poc.ex.model.dto.PersonYearCountDTO(d.eventYear, d.pending, count(*))
+            from (select year(p.hireDate) as eventYear,
+                         case when month(p.hireDate) * 100 + day(p.hireDate) > :monthDay then 1 else 0 end as pending
+                  from Person p where p.hireDate <= :today) d
+            group by d.eventYear, d.pending""")
+    List<PersonYearCountDTO> countByHireYear(@Param("today") LocalDate today, @Param("monthDay") int monthDay);
+
+    @Query("""
+            select new com.poc.ex.model.dto.PersonYearCountDTO(d.eventYear, d.pending, count(*))
+            from (select year(p.birthDate) as eventYear,
+                         case when month(p.birthDate) * 100 + day(p.birthDate) > :monthDay then 1 else 0 end as pending
+                  from Person p where p.birthDate <= :today) d
+            group by d.eventYear, d.pending""")
+    List<PersonYearCountDTO> countByBirthYear(@Param("today") LocalDate today, @Param("monthDay") int monthDay);
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+                 @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("select p from Person p order by p.name asc, p.id asc")
+    Stream<Person> streamAllByOrderByNameAsc();
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            update Person p set p.name = coalesce(:name, p.name),
+                                p.birthDate = coalesce(:birthDate, p.birthDate),
+                                p.hireDate = coalesce(:hireDate, p.hireDate),
+                                p.updateDate = :updateDate,
+                                p.version = p.version + 1
+            where p.id = :id and (:version is null or p.version = :version)""")
+    int updateSomeFields(@Param("id") Long id, @Param("name") String name, @Param("birthDate") LocalDate birthDate,
+                         @Param("hireDate") LocalDate hireDate, @Param("updateDate") LocalDateTime updateDate,
+                         @Param("version") Long version);
 }
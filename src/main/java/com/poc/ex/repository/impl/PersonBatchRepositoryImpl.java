@@ -0,0 +1,51 @@
+package com.poc.ex.repository.impl;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.repository.PersonBatchRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PersonBatchRepositoryImpl implements PersonBatchRepository {
+
+    private static final String INSERT_PERSON =
+            "INSERT INTO PERSON (NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE, UPDATE_DATE) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void batchInsert(List<Person> persons) {
+        jdbcTemplate.batchUpdate(INSERT_PERSON, persons, persons.size(), (ps, person) -> {
+            ps.setString(1, person.getName());
+            ps.setDate(2, Date.valueOf(person.getBirthDate()));
+            ps.setDate(3, Date.valueOf(person.getHireDate()));
+            ps.setTimestamp(4, Timestamp.valueOf(person.getCreateDate()));
+            ps.setTimestamp(5, Timestamp.valueOf(person.getUpdateDate()));
+        });
+        this.evictQueryResultsAfterCommit();
+    }
+
+    // JDBC inserts bypass Hibernate, so cached list results would never see the new rows.
+    private void evictQueryResultsAfterCommit() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.evictQueryRegions();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.evictQueryRegions();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.poc.ex.repository.impl;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.repository.PersonOutboxBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PersonOutboxBatchRepositoryImpl implements PersonOutboxBatchRepository {
+
+    private static final String FIND_PENDING = "SELECT ID FROM PERSON_OUTBOX WHERE SEQ IS NULL ORDER BY ID LIMIT ?";
+    private static final String LOCK_SEQUENCE = "SELECT LAST_SEQ FROM PERSON_OUTBOX_SEQUENCE WHERE ID = 1 FOR UPDATE";
+    private static final String FIND_LAST_SEQUENCE = "SELECT LAST_SEQ FROM PERSON_OUTBOX_SEQUENCE WHERE ID = 1";
+    private static final String ASSIGN_SEQUENCE = "UPDATE PERSON_OUTBOX SET SEQ = ? WHERE ID = ?";
+    private static final String ADVANCE_SEQUENCE = "UPDATE PERSON_OUTBOX_SEQUENCE SET LAST_SEQ = ? WHERE ID = 1";
+    private static final String INSERT_CREATES =
+            "INSERT INTO PERSON_OUTBOX (PERSON_ID, OPERATION, PERSON_VERSION, NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE) "
+            + "SELECT ID, ?, VERSION, NAME, BIRTH_DATE, HIRE_DATE, ? FROM PERSON WHERE NAME = ? AND BIRTH_DATE = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Only committed rows are visible here, so a row gets its sequence after its transaction commits and
+    // never behind one a reader may already have passed. The row lock on the sequence serializes every
+    // replica running this, which keeps the numbering dense.
+    @Override
+    public int sequencePending(int limit) {
+        if(jdbcTemplate.queryForList(FIND_PENDING, Long.class, 1).isEmpty()) { return 0; }
+        long last = jdbcTemplate.queryForObject(LOCK_SEQUENCE, Long.class);
+        List<Long> pending = jdbcTemplate.queryForList(FIND_PENDING, Long.class, limit);
+        if(pending.isEmpty()) { return 0; }
+        List<Object[]> assignments = new ArrayList<>(pending.size());
+        for (Long id : pending) {
+            assignments.add(new Object[]{++last, id});
+        }
+        jdbcTemplate.batchUpdate(ASSIGN_SEQUENCE, assignments);
+        jdbcTemplate.update(ADVANCE_SEQUENCE, last);
+        return pending.size();
+    }
+
+    @Override
+    public long findLastSequence() {
+        return jdbcTemplate.queryForObject(FIND_LAST_SEQUENCE, Long.class);
+    }
+
+    // JDBC batch inserts return no generated keys, so the new ids are read back through the unique key.
+    @Override
+    public void batchAppendCreates(List<Person> persons, LocalDateTime createDate) {
+        jdbcTemplate.batchUpdate(INSERT_CREATES, persons, persons.size(), (ps, person) -> {
+            ps.setString(1, WriteOperation.create.name());
+            ps.setTimestamp(2, Timestamp.valueOf(createDate));
+            ps.setString(3, person.getName());
+            ps.setDate(4, Date.valueOf(person.getBirthDate()));
+        });
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.poc.ex.repository.specification;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonSearchDTO;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDate;
+
+public final class PersonSpecification {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private PersonSpecification() {
+    }
+
+    public static Specification<Person> of(PersonSearchDTO search) {
+        return Specification.where(nameStartsWith(search.name()))
+                .and(dateBetween("birthDate", search.birthDateFrom(), search.birthDateTo()))
+                .and(dateBetween("hireDate", search.hireDateFrom(), search.hireDateTo()));
+    }
+
+    static Specification<Person> nameStartsWith(String prefix) {
+        if(prefix == null || prefix.isBlank()) return null;
+        String pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("name"), pattern, LIKE_ESCAPE);
+    }
+
+    static Specification<Person> dateBetween(String attribute, LocalDate from, LocalDate to) {
+        if(from == null && to == null) return null;
+        return (root, query, cb) -> {
+            if(from == null) return cb.lessThanOrEqualTo(root.get(attribute), to);
+            if(to == null) return cb.greaterThanOrEqualTo(root.get(attribute), from);
+            return cb.between(root.get(attribute), from, to);
+        };
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.poc.ex.service;
+
+import com.poc.ex.model.dto.PersonAnalyticsDTO;
+import java.time.LocalDate;
+
+public interface PersonAnalyticsService {
+    PersonAnalyticsDTO findPersonAnalytics(int bandYears, LocalDate asOf);
+}
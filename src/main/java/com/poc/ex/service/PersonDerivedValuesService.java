@@ -0,0 +1,15 @@
+package com.poc.ex.service;
+
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonDerivedValuesDTO;
+import java.time.LocalDate;
+import java.util.function.Function;
+
+public interface PersonDerivedValuesService {
+    PersonDerivedValuesDTO get(Long id, Function<Long, PersonDTO> loader);
+    PersonDerivedValuesDTO get(Long id, Function<Long, PersonDTO> loader, LocalDate asOf);
+    boolean isLoaded(Long id);
+    void evict(Long id);
+    void rebuildAll();
+    void refreshAll();
+}
@@ -0,0 +1,11 @@
+package com.poc.ex.service;
+
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.ExportFormat;
+import com.poc.ex.model.enumeration.SalaryType;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface PersonExportService {
+    long exportPersons(ExportFormat format, AgeType ageType, SalaryType salaryType, LocalDate asOf, OutputStream out);
+}
@@ -0,0 +1,9 @@
+package com.poc.ex.service;
+
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonImportResultDTO;
+import java.util.Iterator;
+
+public interface PersonImportService {
+    PersonImportResultDTO importPersons(Iterator<PersonDTO> persons);
+}
@@ -0,0 +1,18 @@
+package com.poc.ex.service;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonChangeFeedDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.model.enumeration.WriteOperation;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface PersonOutboxService {
+    void append(WriteOperation operation, Long personId, VersionedPersonDTO person);
+    void appendCreates(List<Person> persons);
+    PersonChangeFeedDTO findChanges(long after, int limit);
+    CompletableFuture<PersonChangeFeedDTO> awaitChanges(long after, int limit, Duration wait);
+    long poll();
+    int purge();
+}
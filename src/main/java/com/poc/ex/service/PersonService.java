@@ -1,19 +1,36 @@
 package com.poc.ex.service;
 
+import com.poc.ex.model.dto.PersonCalculationDTO;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
 import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonPageDTO;
+import com.poc.ex.model.dto.PersonSearchDTO;
+import com.poc.ex.model.dto.PersonSearchResultDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
 import com.poc.ex.model.enumeration.AgeType;
 import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.model.enumeration.WriteOperation;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Pageable;
 
 public interface PersonService {
     Optional<PersonDTO> findOnePerson(Long id);
+    VersionedPersonDTO findOneVersionedPerson(Long id);
+    PersonCollectionVersionDTO findPersonCollectionVersion();
     List<PersonDTO> findAllPersonOrderByName();
+    PersonPageDTO findPagePersonOrderByName(String cursor, int size);
+    void streamAllPersonOrderByName(Consumer<PersonDTO> consumer);
+    PersonSearchResultDTO searchPersons(PersonSearchDTO search, Pageable pageable);
     void savePerson(PersonDTO personDTO);
-    void updateAllFieldsPerson(Long id, PersonDTO personDTO);
-    void updateSomeFieldsPerson(Long id, PersonDTO personDTO);
+    void updateAllFieldsPerson(Long id, PersonDTO personDTO, Long expectedVersion);
+    void updateSomeFieldsPerson(Long id, PersonDTO personDTO, Long expectedVersion);
     void deletePerson(Long id);
-    long findPersonAge(Long id, AgeType ageType);
-    BigDecimal findPersonSalary(Long id, SalaryType salaryType);
+    void afterCommittedWrite(Long id, WriteOperation operation);
+    long findPersonAge(Long id, AgeType ageType, LocalDate asOf);
+    BigDecimal findPersonSalary(Long id, SalaryType salaryType, LocalDate asOf);
+    List<PersonCalculationDTO> findPersonsAgeAndSalary(List<Long> ids, AgeType ageType, SalaryType salaryType, LocalDate asOf);
 }
@@ -0,0 +1,12 @@
+package com.poc.ex.service;
+
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonWriteStatusDTO;
+import com.poc.ex.model.enumeration.WriteOperation;
+
+public interface PersonWriteBehindService {
+    boolean isEnabled();
+    PersonWriteStatusDTO accept(WriteOperation operation, Long id, PersonDTO personDTO);
+    PersonWriteStatusDTO findWriteStatus(String writeId);
+    int flush();
+}
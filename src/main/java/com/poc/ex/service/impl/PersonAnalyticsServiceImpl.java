@@ -0,0 +1,76 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.dto.AgeBucketDTO;
+import com.poc.ex.model.dto.PersonAnalyticsDTO;
+import com.poc.ex.model.dto.PersonYearCountDTO;
+import com.poc.ex.model.dto.TenureBandDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonAnalyticsService;
+import com.poc.ex.validation.exception.PersonInvalidRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PersonAnalyticsServiceImpl implements PersonAnalyticsService {
+
+    static final int MAX_BAND_YEARS = 100;
+
+    private final PersonRepository personRepository;
+    private final Clock clock;
+
+    @Override
+    @Transactional(readOnly = true)
+    public PersonAnalyticsDTO findPersonAnalytics(int bandYears, LocalDate asOf) {
+        log.info("state=init-find-person-analytics, bandYears={}, asOf={}", bandYears, asOf);
+        if(bandYears < 1 || bandYears > MAX_BAND_YEARS) { throw new PersonInvalidRequestException("Invalid tenure band"); }
+        LocalDate today = asOf != null ? asOf : LocalDate.now(clock);
+        int monthDay = today.getMonthValue() * 100 + today.getDayOfMonth();
+
+        Map<Long, Long> headcountByTenure = toYearsCount(personRepository.countByHireYear(today, monthDay), today);
+        Map<Long, TenureBandDTO> bands = new TreeMap<>();
+        BigDecimal totalFullSalary = BigDecimal.ZERO;
+        long headcount = 0;
+        for (Map.Entry<Long, Long> tenure : headcountByTenure.entrySet()) {
+            BigDecimal salary = SalaryEngine.fullSalary(tenure.getKey()).multiply(BigDecimal.valueOf(tenure.getValue()));
+            long fromYears = tenure.getKey() / bandYears * bandYears;
+            TenureBandDTO band = bands.getOrDefault(fromYears, new TenureBandDTO(fromYears, fromYears + bandYears - 1, 0, BigDecimal.ZERO));
+            bands.put(fromYears, new TenureBandDTO(band.fromYears(), band.toYears(),
+                    band.headcount() + tenure.getValue(), band.totalFullSalary().add(salary)));
+            totalFullSalary = totalFullSalary.add(salary);
+            headcount += tenure.getValue();
+        }
+
+        List<AgeBucketDTO> ageDistribution = toYearsCount(personRepository.countByBirthYear(today, monthDay), today)
+                .entrySet().stream()
+                .map(age -> new AgeBucketDTO(age.getKey(), age.getValue()))
+                .toList();
+        log.info("state=end-success-find-person-analytics, headcount={}, tenures={}", headcount, headcountByTenure.size());
+        return PersonAnalyticsDTO.builder()
+                .asOf(today)
+                .headcount(headcount)
+                .totalFullSalary(totalFullSalary)
+                .salaryByTenure(List.copyOf(bands.values()))
+                .ageDistribution(ageDistribution)
+                .build();
+    }
+
+    static Map<Long, Long> toYearsCount(List<PersonYearCountDTO> groups, LocalDate today) {
+        Map<Long, Long> countByYears = new TreeMap<>();
+        for (PersonYearCountDTO group : groups) {
+            long years = (long) today.getYear() - group.year() - group.anniversaryPending();
+            countByYears.merge(years, group.count(), Long::sum);
+        }
+        return countByYears;
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.poc.ex.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonDerivedValuesDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonDerivedValuesService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class PersonDerivedValuesServiceImpl implements PersonDerivedValuesService {
+
+    private final Cache<Long, PersonDerivedValuesDTO> store;
+    private final ConcurrentMap<Long, PersonDerivedValuesDTO> values;
+    private final PersonRepository personRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean warmUp;
+    private final long maximumSize;
+
+    public PersonDerivedValuesServiceImpl(PersonRepository personRepository,
+                                          EntityManager entityManager,
+                                          PlatformTransactionManager transactionManager,
+                                          Clock clock,
+                                          @Value("${person.derived.warm-up:true}") boolean warmUp,
+                                          @Value("${person.derived.maximum-size:10000}") long maximumSize,
+                                          @Value("${person.derived.ttl:PT5M}") Duration ttl) {
+        this.personRepository = personRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.clock = clock;
+        this.warmUp = warmUp;
+        this.maximumSize = maximumSize;
+        // Bounded and expiring: a replica only evicts on its own writes, so the TTL caps how long it can serve
+        // values derived from dates another replica has since changed.
+        this.store = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.values = store.asMap();
+    }
+
+    @Override
+    public PersonDerivedValuesDTO get(Long id, Function<Long, PersonDTO> loader) {
+        return this.get(id, loader, LocalDate.now(clock));
+    }
+
+    @Override
+    public PersonDerivedValuesDTO get(Long id, Function<Long, PersonDTO> loader, LocalDate asOf) {
+        PersonDerivedValuesDTO current = values.get(id);
+        if(current != null && current.asOf().equals(asOf)) return current;
+        LocalDate today = LocalDate.now(clock);
+        PersonDerivedValuesDTO stored = values.compute(id, (key, previous) -> {
+            if(previous != null) return previous.asOf().equals(today) ? previous : derive(previous.birthDate(), previous.hireDate(), today);
+            PersonDTO personDTO = loader.apply(key);
+            return derive(personDTO.birthDate(), personDTO.hireDate(), today);
+        });
+        return stored.asOf().equals(asOf) ? stored : derive(stored.birthDate(), stored.hireDate(), asOf);
+    }
+
+    @Override
+    public boolean isLoaded(Long id) {
+        return values.containsKey(id);
+    }
+
+    @Override
+    public void evict(Long id) {
+        values.remove(id);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        if(!warmUp) return;
+        log.info("state=init-rebuild-derived-values");
+        LocalDate today = LocalDate.now(clock);
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Person> persons = personRepository.streamAllByOrderByNameAsc()) {
+                persons.limit(maximumSize).forEach(person -> {
+                    values.putIfAbsent(person.getId(), derive(person.getBirthDate(), person.getHireDate(), today));
+                    entityManager.detach(person);
+                });
+            }
+        });
+        log.info("state=end-success-rebuild-derived-values, size={}", store.estimatedSize());
+    }
+
+    @Override
+    @Scheduled(cron = "${person.derived.refresh-cron:0 0 0 * * *}")
+    public void refreshAll() {
+        LocalDate today = LocalDate.now(clock);
+        log.info("state=init-refresh-derived-values, asOf={}", today);
+        values.replaceAll((id, stored) -> stored.asOf().equals(today) ? stored : derive(stored.birthDate(), stored.hireDate(), today));
+        log.info("state=end-success-refresh-derived-values, size={}", store.estimatedSize());
+    }
+
+    // Each value only depends on its own date, so an invalid hire date leaves the age usable and vice versa;
+    // PersonDerivedValuesDTO rejects the value whose date is invalid when it is asked for.
+    static PersonDerivedValuesDTO derive(LocalDate birthDate, LocalDate hireDate, LocalDate today) {
+        PersonDerivedValuesDTO.PersonDerivedValuesDTOBuilder values = PersonDerivedValuesDTO.builder()
+                .birthDate(birthDate)
+                .hireDate(hireDate)
+                .asOf(today);
+        if(PersonDerivedValuesDTO.isValidDate(birthDate, today)) {
+            values.ageInDays(ChronoUnit.DAYS.between(birthDate, today))
+                    .ageInMonths(ChronoUnit.MONTHS.between(birthDate, today))
+                    .ageInYears(ChronoUnit.YEARS.between(birthDate, today));
+        }
+        if(PersonDerivedValuesDTO.isValidDate(hireDate, today)) {
+            long hireYears = ChronoUnit.YEARS.between(hireDate, today);
+            values.minSalary(SalaryEngine.minSalary(hireYears))
+                    .fullSalary(SalaryEngine.fullSalary(hireYears));
+        }
+        return values.build();
+    }
+
+}
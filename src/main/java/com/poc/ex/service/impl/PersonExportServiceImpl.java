@@ -0,0 +1,115 @@
+package com.poc.ex.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDerivedValuesDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.ExportFormat;
+import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonExportService;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PersonExportServiceImpl implements PersonExportService {
+
+    static final String CSV_HEADER = "id,name,birthDate,hireDate,age,salary";
+
+    private final PersonRepository personRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportPersons(ExportFormat format, AgeType ageType, SalaryType salaryType, LocalDate asOf, OutputStream out) {
+        if(format == null) { throw new IllegalArgumentException("Invalid export format"); }
+        if(ageType == null ) { throw new IllegalArgumentException("Invalid calculate age type"); }
+        if(salaryType == null ) { throw new IllegalArgumentException("Invalid calculate salary type"); }
+        LocalDate today = asOf != null ? asOf : LocalDate.now(clock);
+        log.info("state=init-export-persons, format={}, asOf={}", format, today);
+        long rows = 0;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+             Stream<Person> persons = personRepository.streamAllByOrderByNameAsc()) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            generator.setRootValueSeparator(null);
+            if(format == ExportFormat.csv) { writer.write(CSV_HEADER); writer.write('\n'); }
+            for (Person person : (Iterable<Person>) persons::iterator) {
+                PersonDerivedValuesDTO values = PersonDerivedValuesServiceImpl.derive(person.getBirthDate(), person.getHireDate(), today);
+                if(format == ExportFormat.csv) {
+                    writeCsvRow(writer, person, values, ageType, salaryType);
+                } else {
+                    writeJsonRow(generator, person, values, ageType, salaryType);
+                    generator.flush();
+                    writer.write('\n');
+                }
+                entityManager.detach(person);
+                rows++;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("state=end-success-export-persons, format={}, rows={}", format, rows);
+        return rows;
+    }
+
+    static void writeCsvRow(Writer writer, Person person, PersonDerivedValuesDTO values,
+                            AgeType ageType, SalaryType salaryType) throws IOException {
+        writer.write(String.valueOf(person.getId()));
+        writer.write(',');
+        writeCsvValue(writer, person.getName());
+        writer.write(',');
+        if(person.getBirthDate() != null) { writer.write(person.getBirthDate().toString()); }
+        writer.write(',');
+        if(person.getHireDate() != null) { writer.write(person.getHireDate().toString()); }
+        writer.write(',');
+        if(values.hasAge()) { writer.write(String.valueOf(values.age(ageType))); }
+        writer.write(',');
+        if(values.hasSalary()) { writer.write(values.salary(salaryType).toPlainString()); }
+        writer.write('\n');
+    }
+
+    static void writeCsvValue(Writer writer, String value) throws IOException {
+        if(value == null) return;
+        boolean quoted = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if(!quoted) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static void writeJsonRow(JsonGenerator generator, Person person, PersonDerivedValuesDTO values,
+                                     AgeType ageType, SalaryType salaryType) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", person.getId());
+        generator.writeStringField("name", person.getName());
+        generator.writeStringField("birthDate", person.getBirthDate() == null ? null : person.getBirthDate().toString());
+        generator.writeStringField("hireDate", person.getHireDate() == null ? null : person.getHireDate().toString());
+        if(values.hasAge()) { generator.writeNumberField("age", values.age(ageType)); }
+        if(values.hasSalary()) { generator.writeNumberField("salary", values.salary(salaryType)); }
+        generator.writeEndObject();
+    }
+
+}
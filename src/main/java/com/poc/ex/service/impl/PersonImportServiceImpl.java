@@ -0,0 +1,152 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.cache.PersonSnapshotService;
+import com.poc.ex.mapper.PersonMapperService;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonImportErrorDTO;
+import com.poc.ex.model.dto.PersonImportResultDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonImportService;
+import com.poc.ex.service.PersonOutboxService;
+import com.poc.ex.validation.exception.PersonAlreadyExistsException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+@Service
+@Slf4j
+public class PersonImportServiceImpl implements PersonImportService {
+
+    private final PersonRepository personRepository;
+    private final PersonMapperService personMapperService;
+    private final PersonSnapshotService personSnapshotService;
+    private final PersonOutboxService personOutboxService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int batchSize;
+
+    public PersonImportServiceImpl(PersonRepository personRepository,
+                                   PersonMapperService personMapperService,
+                                   PersonSnapshotService personSnapshotService,
+                                   PersonOutboxService personOutboxService,
+                                   Validator validator,
+                                   PlatformTransactionManager transactionManager,
+                                   Clock clock,
+                                   @Value("${person.import.batch-size:500}") int batchSize) {
+        if(batchSize < 1) { throw new IllegalArgumentException("Invalid import batch size"); }
+        this.personRepository = personRepository;
+        this.personMapperService = personMapperService;
+        this.personSnapshotService = personSnapshotService;
+        this.personOutboxService = personOutboxService;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public PersonImportResultDTO importPersons(Iterator<PersonDTO> persons) {
+        log.info("state=init-import-persons, batchSize={}", batchSize);
+        List<PersonImportErrorDTO> failures = new ArrayList<>();
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+        LocalDateTime now = LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+        long total = 0;
+        long imported = 0;
+        while (persons.hasNext()) {
+            long row = ++total;
+            PersonDTO personDTO;
+            try {
+                personDTO = persons.next();
+            } catch (RuntimeException ex) {
+                failures.add(PersonImportErrorDTO.builder().row(row).errors(List.of("Unreadable row: " + ex.getMessage())).build());
+                break;
+            }
+            List<String> errors = this.validate(personDTO);
+            if(!errors.isEmpty()) {
+                failures.add(PersonImportErrorDTO.builder().row(row).name(personDTO.name()).errors(errors).build());
+                continue;
+            }
+            chunk.add(new ImportRow(row, personMapperService.toPerson(personDTO, now)));
+            if(chunk.size() == batchSize) {
+                imported += this.insertChunk(chunk, failures);
+                chunk.clear();
+            }
+        }
+        if(!chunk.isEmpty()) {
+            imported += this.insertChunk(chunk, failures);
+        }
+        failures.sort(Comparator.comparingLong(PersonImportErrorDTO::row));
+        if(imported > 0) { personSnapshotService.reload(); }
+        log.info("state=end-success-import-persons, total={}, imported={}, failed={}", total, imported, failures.size());
+        return PersonImportResultDTO.builder().total(total).imported(imported).failures(failures).build();
+    }
+
+    List<String> validate(PersonDTO personDTO) {
+        List<String> errors = new ArrayList<>();
+        if(personDTO == null) {
+            errors.add("Empty row");
+            return errors;
+        }
+        if(personDTO.birthDate() == null) { errors.add("birthDate: Birth date required"); }
+        if(personDTO.hireDate() == null) { errors.add("hireDate: Hire date required"); }
+        for (ConstraintViolation<PersonDTO> violation : validator.validate(personDTO)) {
+            String path = violation.getPropertyPath().toString();
+            errors.add(path.isEmpty() ? violation.getMessage() : path + ": " + violation.getMessage());
+        }
+        return errors;
+    }
+
+    private int insertChunk(List<ImportRow> chunk, List<PersonImportErrorDTO> failures) {
+        List<Person> batch = chunk.stream().map(ImportRow::person).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> this.insert(batch));
+            return batch.size();
+        } catch (DataAccessException ex) {
+            log.warn("state=import-batch-failed, size={}, retrying row by row", batch.size());
+            return this.insertRowByRow(chunk, failures);
+        }
+    }
+
+    private int insertRowByRow(List<ImportRow> chunk, List<PersonImportErrorDTO> failures) {
+        int imported = 0;
+        for (ImportRow importRow : chunk) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> this.insert(List.of(importRow.person())));
+                imported++;
+            } catch (DuplicateKeyException ex) {
+                failures.add(this.toError(importRow, new PersonAlreadyExistsException().getMessage()));
+            } catch (DataAccessException ex) {
+                failures.add(this.toError(importRow, ex.getMostSpecificCause().getMessage()));
+            }
+        }
+        return imported;
+    }
+
+    private void insert(List<Person> batch) {
+        personRepository.batchInsert(batch);
+        personOutboxService.appendCreates(batch);
+    }
+
+    private PersonImportErrorDTO toError(ImportRow importRow, String error) {
+        return PersonImportErrorDTO.builder().row(importRow.row()).name(importRow.person().getName()).errors(List.of(error)).build();
+    }
+
+    private record ImportRow(long row, Person person) {
+    }
+
+}
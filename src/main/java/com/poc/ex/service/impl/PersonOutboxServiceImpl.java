@@ -0,0 +1,199 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.PersonOutboxEvent;
+import com.poc.ex.model.dto.PersonChangeDTO;
+import com.poc.ex.model.dto.PersonChangeFeedDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.repository.PersonOutboxRepository;
+import com.poc.ex.service.PersonOutboxService;
+import com.poc.ex.validation.exception.PersonChangesExpiredException;
+import com.poc.ex.validation.exception.PersonInvalidRequestException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class PersonOutboxServiceImpl implements PersonOutboxService, MeterBinder {
+
+    private static final long UNKNOWN = -1;
+
+    private final PersonOutboxRepository personOutboxRepository;
+    private final Executor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int maxBatchSize;
+    private final Duration maxWait;
+    private final Duration retention;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicLong head = new AtomicLong(UNKNOWN);
+
+    public PersonOutboxServiceImpl(PersonOutboxRepository personOutboxRepository,
+                                   @Qualifier("applicationTaskExecutor") Executor executor,
+                                   PlatformTransactionManager transactionManager,
+                                   Clock clock,
+                                   @Value("${person.outbox.max-batch-size:500}") int maxBatchSize,
+                                   @Value("${person.outbox.max-wait:PT25S}") Duration maxWait,
+                                   @Value("${person.outbox.retention:P7D}") Duration retention) {
+        if(maxBatchSize < 1) { throw new IllegalArgumentException("Invalid outbox batch size"); }
+        this.personOutboxRepository = personOutboxRepository;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWait = maxWait;
+        this.retention = retention;
+    }
+
+    // Rows are written without an offset; poll() numbers them once committed, so any replica can append
+    // without coordinating with the others.
+    @Override
+    public void append(WriteOperation operation, Long personId, VersionedPersonDTO person) {
+        this.requireTransaction();
+        personOutboxRepository.save(PersonOutboxEvent.builder()
+                .personId(personId)
+                .operation(operation)
+                .personVersion(person == null ? null : person.version())
+                .name(person == null ? null : person.person().name())
+                .birthDate(person == null ? null : person.person().birthDate())
+                .hireDate(person == null ? null : person.person().hireDate())
+                .createDate(this.now())
+                .build());
+    }
+
+    @Override
+    public void appendCreates(List<Person> persons) {
+        this.requireTransaction();
+        personOutboxRepository.batchAppendCreates(persons, this.now());
+    }
+
+    @Override
+    public PersonChangeFeedDTO findChanges(long after, int limit) {
+        this.validate(after, limit);
+        List<PersonChangeDTO> changes = this.findNotPurged(after, limit);
+        long nextOffset = changes.isEmpty() ? after : changes.get(changes.size() - 1).offset();
+        return PersonChangeFeedDTO.builder().changes(changes).nextOffset(nextOffset).build();
+    }
+
+    // A consumer at or past the last polled offset is answered from memory and parked until a poll on this
+    // replica sees the sequence move, whichever replica the write went through.
+    @Override
+    public CompletableFuture<PersonChangeFeedDTO> awaitChanges(long after, int limit, Duration wait) {
+        this.validate(after, limit);
+        Waiter waiter = new Waiter(after, limit, new CompletableFuture<>());
+        waiters.add(waiter);
+        PersonChangeFeedDTO feed;
+        try {
+            feed = after < this.currentHead() ? this.findChanges(after, limit) : PersonChangeFeedDTO.builder().changes(List.of()).nextOffset(after).build();
+        } catch (RuntimeException ex) {
+            waiters.remove(waiter);
+            throw ex;
+        }
+        if(feed.nextOffset() > after || wait.isZero() || wait.isNegative()) {
+            waiters.remove(waiter);
+            return CompletableFuture.completedFuture(feed);
+        }
+        long timeout = Math.min(wait.toMillis(), maxWait.toMillis());
+        waiter.result.completeOnTimeout(feed, timeout, TimeUnit.MILLISECONDS).whenComplete((result, ex) -> waiters.remove(waiter));
+        return waiter.result;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${person.outbox.poll-interval:PT0.1S}")
+    public long poll() {
+        int sequenced;
+        do {
+            sequenced = transactionTemplate.execute(status -> personOutboxRepository.sequencePending(maxBatchSize));
+        } while (sequenced == maxBatchSize);
+        long last = personOutboxRepository.findLastSequence();
+        if(last > head.getAndAccumulate(last, Math::max)) { this.wakeWaiters(last); }
+        return last;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${person.outbox.purge-interval:PT1H}", initialDelayString = "${person.outbox.purge-interval:PT1H}")
+    public int purge() {
+        int purged = personOutboxRepository.deleteCreatedBefore(this.now().minus(retention));
+        if(purged > 0) { log.info("state=end-success-purge-person-outbox, purged={}", purged); }
+        return purged;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("person.outbox.waiters", waiters, Set::size).register(registry);
+        Gauge.builder("person.outbox.head", head, AtomicLong::get).register(registry);
+    }
+
+    private void wakeWaiters(long last) {
+        for (Waiter waiter : waiters) {
+            if(waiter.after < last && waiters.remove(waiter)) {
+                executor.execute(() -> {
+                    try {
+                        waiter.result.complete(this.findChanges(waiter.after, waiter.limit));
+                    } catch (RuntimeException ex) {
+                        waiter.result.completeExceptionally(ex);
+                    }
+                });
+            }
+        }
+    }
+
+    // Offsets are dense, so a hole right after the consumer's offset can only be rows purge() removed. Handing
+    // out what follows would skip them silently; the consumer has to resync instead. An empty read is checked
+    // against the head read before a second query, since every row up to that head had committed by then.
+    private List<PersonChangeDTO> findNotPurged(long after, int limit) {
+        List<PersonChangeDTO> changes = personOutboxRepository.findChanges(after, PageRequest.ofSize(limit));
+        if(changes.isEmpty()) {
+            long last = personOutboxRepository.findLastSequence();
+            if(after >= last) { return changes; }
+            changes = personOutboxRepository.findChanges(after, PageRequest.ofSize(limit));
+            if(changes.isEmpty()) { throw new PersonChangesExpiredException(last); }
+        }
+        if(changes.get(0).offset() > after + 1) { throw new PersonChangesExpiredException(changes.get(0).offset() - 1); }
+        return changes;
+    }
+
+    private long currentHead() {
+        long current = head.get();
+        return current == UNKNOWN ? this.poll() : current;
+    }
+
+    private void validate(long after, int limit) {
+        if(after < 0) { throw new PersonInvalidRequestException("Invalid offset"); }
+        if(limit < 1 || limit > maxBatchSize) { throw new PersonInvalidRequestException("Invalid batch size"); }
+    }
+
+    private void requireTransaction() {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) { throw new IllegalStateException("Outbox writes must join the person transaction"); }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+    }
+
+    private record Waiter(long after, int limit, CompletableFuture<PersonChangeFeedDTO> result) {
+    }
+
+}
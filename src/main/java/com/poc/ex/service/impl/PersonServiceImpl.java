@@ -1,109 +1,440 @@
 package com.poc.ex.service.impl;
 
+import com.poc.ex.cache.PersonCacheService;
+import com.poc.ex.cache.PersonSnapshotService;
 import com.poc.ex.mapper.PersonMapperService;
 import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonCalculationDTO;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
 import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonPageDTO;
+import com.poc.ex.model.dto.PersonSearchDTO;
+import com.poc.ex.model.dto.PersonSearchResultDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
 import com.poc.ex.model.enumeration.AgeType;
 import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.model.dto.PersonDerivedValuesDTO;
 import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.repository.specification.PersonSpecification;
+import com.poc.ex.service.PersonDerivedValuesService;
+import com.poc.ex.service.PersonOutboxService;
 import com.poc.ex.service.PersonService;
+import com.poc.ex.validation.exception.PersonAlreadyExistsException;
+import com.poc.ex.validation.exception.PersonInvalidRequestException;
 import com.poc.ex.validation.exception.PersonNotFoundException;
-import lombok.RequiredArgsConstructor;
+import com.poc.ex.validation.exception.PersonUpdateConflictException;
+import com.poc.ex.validation.exception.PersonVersionMismatchException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
+@Timed(value = "person.service", histogram = true)
 public class PersonServiceImpl implements PersonService {
 
-    private static final BigDecimal MIN_SALARY = new BigDecimal("1302.00");
-    private static final BigDecimal INITIAL_SALARY = new BigDecimal("1558.00");
-    private static final BigDecimal PERCENT_INCRISE_SALARY = new BigDecimal("0.18");
-    private static final BigDecimal FIXED_INCRISE_SALARY = new BigDecimal("500.00");
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_UPDATE_ATTEMPTS = 5;
+    static final Set<String> SORTABLE_FIELDS = Set.of("id", "name", "birthDate", "hireDate");
+    private static final String ALL_PERSONS = "all";
 
     private final PersonRepository personRepository;
     private final PersonMapperService personMapperService;
+    private final EntityManager entityManager;
+    private final PersonCacheService personCacheService;
+    private final PersonSnapshotService personSnapshotService;
+    private final PersonOutboxService personOutboxService;
+    private final PersonDerivedValuesService personDerivedValuesService;
+    private final Clock clock;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<AgeType, Counter> ageCounters = new EnumMap<>(AgeType.class);
+    private final Map<SalaryType, Counter> salaryCounters = new EnumMap<>(SalaryType.class);
+    private final SingleFlight<Long, Optional<VersionedPersonDTO>> personLoads = new SingleFlight<>();
+    private final SingleFlight<Long, PersonDerivedValuesDTO> derivedValuesLoads = new SingleFlight<>();
+    private final SingleFlight<String, List<PersonDTO>> listLoads = new SingleFlight<>();
+
+    public PersonServiceImpl(PersonRepository personRepository,
+                             PersonMapperService personMapperService,
+                             EntityManager entityManager,
+                             PersonCacheService personCacheService,
+                             PersonSnapshotService personSnapshotService,
+                             PersonOutboxService personOutboxService,
+                             PersonDerivedValuesService personDerivedValuesService,
+                             Clock clock,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.personRepository = personRepository;
+        this.personMapperService = personMapperService;
+        this.entityManager = entityManager;
+        this.personCacheService = personCacheService;
+        this.personSnapshotService = personSnapshotService;
+        this.personOutboxService = personOutboxService;
+        this.personDerivedValuesService = personDerivedValuesService;
+        this.clock = clock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (AgeType ageType : AgeType.values()) {
+            ageCounters.put(ageType, Counter.builder("person.age.calculations").tag("ageType", ageType.name()).register(meterRegistry));
+        }
+        for (SalaryType salaryType : SalaryType.values()) {
+            salaryCounters.put(salaryType, Counter.builder("person.salary.calculations").tag("salaryType", salaryType.name()).register(meterRegistry));
+        }
+        registerLoadCounters(meterRegistry, "person", personLoads);
+        registerLoadCounters(meterRegistry, "derived-values", derivedValuesLoads);
+        registerLoadCounters(meterRegistry, "list", listLoads);
+    }
 
     @Override
     public Optional<PersonDTO> findOnePerson(Long id) {
         log.info("state=init-find-person, id={}", id);
-        Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
+        VersionedPersonDTO versionedPerson = this.findOneVersionedPerson(id);
         log.info("state=end-success-find-person-by-id , id={} ", id);
-        return Optional.ofNullable(personMapperService.toPersonDTO(person));
+        return Optional.of(versionedPerson.person());
+    }
+
+    @Override
+    public VersionedPersonDTO findOneVersionedPerson(Long id) {
+        if(personSnapshotService.isReady()) { return personSnapshotService.findVersionedPerson(id).orElseThrow(PersonNotFoundException::new); }
+        Optional<VersionedPersonDTO> cached = personCacheService.getIfPresent(id);
+        if(cached.isPresent()) { return cached.get(); }
+        return personLoads.load(id, key -> personCacheService.get(key, this::loadPerson)).orElseThrow(PersonNotFoundException::new);
+    }
+
+    @Override
+    public PersonCollectionVersionDTO findPersonCollectionVersion() {
+        if(personSnapshotService.isReady()) { return personSnapshotService.findCollectionVersion(); }
+        return personRepository.findCollectionVersion();
+    }
+
+    private VersionedPersonDTO loadPerson(Long id) {
+        return personRepository.findVersionedPersonById(id).orElse(null);
     }
 
     @Override
     public List<PersonDTO> findAllPersonOrderByName() {
         log.info("state=init-find-all-persons");
-        List<Person> persons = personRepository.findAllByOrderByNameAsc();
+        List<PersonDTO> persons = personSnapshotService.isReady()
+                ? personSnapshotService.findAllOrderByName()
+                : listLoads.load(ALL_PERSONS, key -> Collections.unmodifiableList(personRepository.findAllPersonDTOByOrderByNameAsc()));
         log.info("state=end-success-find-all-persons");
         if(persons.isEmpty()) throw new PersonNotFoundException();
-        return persons.stream().map(personMapperService::toPersonDTO).toList();
+        return persons;
+    }
+
+    @Override
+    public PersonPageDTO findPagePersonOrderByName(String cursor, int size) {
+        log.info("state=init-find-page-persons, cursor={}, size={}", cursor, size);
+        if(size < 1 || size > MAX_PAGE_SIZE) { throw new PersonInvalidRequestException("Invalid page size"); }
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<Person> persons;
+        if(cursor == null || cursor.isBlank()) {
+            persons = personRepository.findAllByOrderByNameAscIdAsc(limit);
+        } else {
+            Person last = decodeCursor(cursor);
+            persons = personRepository.findAllAfterOrderByNameAsc(last.getName(), last.getId(), limit);
+        }
+        boolean hasNext = persons.size() > size;
+        List<Person> page = hasNext ? persons.subList(0, size) : persons;
+        log.info("state=end-success-find-page-persons, size={}, hasNext={}", page.size(), hasNext);
+        return PersonPageDTO.builder()
+                .persons(page.stream().map(personMapperService::toPersonDTO).toList())
+                .nextCursor(hasNext ? encodeCursor(page.get(page.size() - 1)) : null)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllPersonOrderByName(Consumer<PersonDTO> consumer) {
+        log.info("state=init-stream-all-persons");
+        try (Stream<Person> persons = personRepository.streamAllByOrderByNameAsc()) {
+            persons.forEach(person -> {
+                consumer.accept(personMapperService.toPersonDTO(person));
+                entityManager.detach(person);
+            });
+        }
+        log.info("state=end-success-stream-all-persons");
+    }
+
+    @Override
+    public PersonSearchResultDTO searchPersons(PersonSearchDTO search, Pageable pageable) {
+        log.info("state=init-search-persons, search={}, pageable={}", search, pageable);
+        if(pageable.getPageSize() < 1 || pageable.getPageSize() > MAX_PAGE_SIZE) { throw new PersonInvalidRequestException("Invalid page size"); }
+        for (Sort.Order order : pageable.getSort()) {
+            if(!SORTABLE_FIELDS.contains(order.getProperty())) { throw new PersonInvalidRequestException("Invalid sort field " + order.getProperty()); }
+        }
+        Sort sort = pageable.getSort().and(Sort.by("id"));
+        Window<Person> persons = personRepository.findBy(PersonSpecification.of(search), query -> query
+                .sortBy(sort)
+                .limit(pageable.getPageSize())
+                .scroll(pageable.getOffset() == 0 ? ScrollPosition.offset() : ScrollPosition.offset(pageable.getOffset() - 1)));
+        log.info("state=end-success-search-persons, size={}, hasNext={}", persons.size(), persons.hasNext());
+        return PersonSearchResultDTO.builder()
+                .persons(persons.stream().map(personMapperService::toPersonDTO).toList())
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .hasNext(persons.hasNext())
+                .build();
     }
 
     @Override
     public void savePerson(PersonDTO personDTO) {
         log.info("state=init-save-person, person={}", personDTO);
-        Person person = personMapperService.toPerson(personDTO);
-        personRepository.save(person);
+        Person person = personMapperService.toPerson(personDTO, this.now());
+        Person savedPerson;
+        try {
+            savedPerson = transactionTemplate.execute(status -> {
+                Person saved = personRepository.save(person);
+                if(saved != null) { personOutboxService.append(WriteOperation.create, saved.getId(), toVersionedPerson(saved)); }
+                return saved;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            throw translate(ex);
+        }
+        if(savedPerson != null) {
+            this.afterCommit(() -> this.afterCommittedWrite(savedPerson.getId(), WriteOperation.create));
+        }
         log.info("state=end-success-save-person, person={}", personDTO);
     }
 
     @Override
-    public void updateAllFieldsPerson(Long id, PersonDTO personDTO) {
-        log.info("state=init-update-person, person={}", personDTO);
-        Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
-        var updatedPerson = personMapperService.toExistsPerson(person, personDTO, true);
-        personRepository.save(updatedPerson);
+    public void updateAllFieldsPerson(Long id, PersonDTO personDTO, Long expectedVersion) {
+        log.info("state=init-update-person, person={}, expectedVersion={}", personDTO, expectedVersion);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
+                    checkVersion(person, expectedVersion);
+                    Person updated = personMapperService.toExistsPerson(person, personDTO, true, this.now());
+                    personRepository.saveAndFlush(updated);
+                    personOutboxService.append(WriteOperation.update, id, toVersionedPerson(updated));
+                });
+                break;
+            } catch (DataIntegrityViolationException ex) {
+                throw translate(ex);
+            } catch (OptimisticLockingFailureException ex) {
+                if(expectedVersion != null) { throw new PersonVersionMismatchException(); }
+                if(attempt >= MAX_UPDATE_ATTEMPTS) { throw new PersonUpdateConflictException(); }
+                log.info("state=retry-update-person, id={}, attempt={}", id, attempt);
+            }
+        }
+        this.afterCommit(() -> this.afterCommittedWrite(id, WriteOperation.update));
         log.info("state=end-success-update-person, person={}", personDTO);
     }
 
     @Override
-    public void updateSomeFieldsPerson(Long id, PersonDTO personDTO) {
-        log.info("state=init-partial-update-person, person={}", personDTO);
-        Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
-        var updatedPerson = personMapperService.toExistsPerson(person, personDTO, false);
-        personRepository.save(updatedPerson);
+    public void updateSomeFieldsPerson(Long id, PersonDTO personDTO, Long expectedVersion) {
+        log.info("state=init-partial-update-person, person={}, expectedVersion={}", personDTO, expectedVersion);
+        String name = StringUtils.isBlank(personDTO.name()) ? null : personDTO.name();
+        Integer updated;
+        try {
+            updated = transactionTemplate.execute(status -> {
+                int rows = personRepository.updateSomeFields(id, name, personDTO.birthDate(), personDTO.hireDate(), this.now(), expectedVersion);
+                if(rows > 0) { personOutboxService.append(WriteOperation.patch, id, personRepository.findVersionedPersonById(id).orElse(null)); }
+                return rows;
+            });
+        } catch (DataIntegrityViolationException ex) {
+            throw translate(ex);
+        }
+        if(updated == null || updated == 0) {
+            if(expectedVersion != null && personRepository.existsById(id)) { throw new PersonVersionMismatchException(); }
+            throw new PersonNotFoundException();
+        }
+        this.afterCommit(() -> this.afterCommittedWrite(id, WriteOperation.patch));
         log.info("state=end-success-partial-update-person, person={}", personDTO);
     }
 
     @Override
     public void deletePerson(Long id) {
         log.info("state=init-delete-person, id={}", id);
-        Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
-        personRepository.delete(person);
+        transactionTemplate.executeWithoutResult(status -> {
+            Person person = personRepository.findById(id).orElseThrow(PersonNotFoundException::new);
+            personRepository.delete(person);
+            personOutboxService.append(WriteOperation.delete, id, null);
+        });
+        this.afterCommit(() -> this.afterCommittedWrite(id, WriteOperation.delete));
         log.info("state=end-success-delete-person, id={}", id);
     }
 
+    // Shared by every write path, including ones that commit outside this service's transactions.
     @Override
-    public long findPersonAge(Long id, AgeType ageType) {
-        log.info("state=init-find-person-age , id={}", id);
-        Optional<PersonDTO> personDTO = this.findOnePerson(id);
-        long age = this.calculatePersonAge(personDTO.map(PersonDTO::birthDate).orElseThrow(IllegalArgumentException::new), ageType);
+    public void afterCommittedWrite(Long id, WriteOperation operation) {
+        this.evict(id);
+        personSnapshotService.refresh(id);
+        if(operation == WriteOperation.delete) {
+            personDerivedValuesService.evict(id);
+        } else {
+            this.rebuildDerivedValues(id);
+        }
+    }
+
+    @Override
+    public long findPersonAge(Long id, AgeType ageType, LocalDate asOf) {
+        log.info("state=init-find-person-age , id={}, asOf={}", id, asOf);
+        if(ageType == null ) { throw new IllegalArgumentException("Invalid calculate age type"); }
+        ageCounters.get(ageType).increment();
+        long age = ageAsOf(this.findDerivedValues(id, this.resolveAsOf(asOf)), ageType);
         log.info("state=end-success-find-person-age , id={} ", id);
         return age;
     }
 
     @Override
-    public BigDecimal findPersonSalary(Long id, SalaryType salaryType) {
-        log.info("state=init-find-person-salary , id={}", id);
-        Optional<PersonDTO> personDTO = this.findOnePerson(id);
-        BigDecimal salary = this.calculatePersonSalary(personDTO.map(PersonDTO::hireDate).orElseThrow(IllegalArgumentException::new), salaryType);
+    public BigDecimal findPersonSalary(Long id, SalaryType salaryType, LocalDate asOf) {
+        log.info("state=init-find-person-salary , id={}, asOf={}", id, asOf);
+        if(salaryType == null ) { throw new IllegalArgumentException("Invalid calculate salary type"); }
+        salaryCounters.get(salaryType).increment();
+        BigDecimal salary = salaryAsOf(this.findDerivedValues(id, this.resolveAsOf(asOf)), salaryType);
         log.info("state=end-success-find-person-salary , id={} ", id);
         return salary;
     }
 
+    // Only today's values are loaded through the flight, so callers asking for different dates can share it;
+    // each caller then derives its own date from the stored entry without another query.
+    private PersonDerivedValuesDTO findDerivedValues(Long id, LocalDate asOf) {
+        if(!personDerivedValuesService.isLoaded(id)) {
+            derivedValuesLoads.load(id, key -> personDerivedValuesService.get(key, this::loadDates));
+        }
+        return personDerivedValuesService.get(id, this::loadDates, asOf);
+    }
+
+    // An asOf before the person's own dates is a bad request, not a broken row.
+    static long ageAsOf(PersonDerivedValuesDTO values, AgeType ageType) {
+        if(!values.hasAge()) { throw new PersonInvalidRequestException("Invalid asOf before birth date"); }
+        return values.age(ageType);
+    }
+
+    static BigDecimal salaryAsOf(PersonDerivedValuesDTO values, SalaryType salaryType) {
+        if(!values.hasSalary()) { throw new PersonInvalidRequestException("Invalid asOf before hire date"); }
+        return values.salary(salaryType);
+    }
+
+    private PersonDTO loadDates(Long id) {
+        Optional<PersonDTO> dates = personSnapshotService.isReady() ? personSnapshotService.findDates(id) : personRepository.findDatesById(id);
+        return dates.orElseThrow(PersonNotFoundException::new);
+    }
+
+    private LocalDate resolveAsOf(LocalDate asOf) {
+        return asOf != null ? asOf : LocalDate.now(clock);
+    }
+
+    private static RuntimeException translate(DataIntegrityViolationException ex) {
+        return PersonAlreadyExistsException.isViolatedBy(ex) ? new PersonAlreadyExistsException() : ex;
+    }
+
+    private static VersionedPersonDTO toVersionedPerson(Person person) {
+        return new VersionedPersonDTO(person.getName(), person.getBirthDate(), person.getHireDate(), person.getUpdateDate(), person.getVersion());
+    }
+
+    static void checkVersion(Person person, Long expectedVersion) {
+        if(expectedVersion != null && !expectedVersion.equals(person.getVersion())) { throw new PersonVersionMismatchException(); }
+    }
+
+    private void evict(Long id) {
+        personCacheService.evict(id);
+        personLoads.forget(id);
+        derivedValuesLoads.forget(id);
+        listLoads.forget(ALL_PERSONS);
+    }
+
+    private static void registerLoadCounters(MeterRegistry meterRegistry, String load, SingleFlight<?, ?> loads) {
+        FunctionCounter.builder("person.loads", loads, SingleFlight::loadCount).tag("load", load).register(meterRegistry);
+        FunctionCounter.builder("person.loads.shared", loads, SingleFlight::sharedCount).tag("load", load).register(meterRegistry);
+    }
+
+    private void afterCommit(Runnable action) {
+        if(!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void rebuildDerivedValues(Long id) {
+        personDerivedValuesService.evict(id);
+        try {
+            this.findDerivedValues(id, LocalDate.now(clock));
+        } catch (RuntimeException ex) {
+            log.warn("state=rebuild-derived-values-failed, id={}, reason={}", id, ex.getMessage());
+        }
+    }
+
+    @Override
+    public List<PersonCalculationDTO> findPersonsAgeAndSalary(List<Long> ids, AgeType ageType, SalaryType salaryType, LocalDate asOf) {
+        log.info("state=init-find-persons-age-salary , size={}, asOf={}", ids.size(), asOf);
+        LocalDate today = this.resolveAsOf(asOf);
+        if(ageType == null ) { throw new IllegalArgumentException("Invalid calculate age type"); }
+        if(salaryType == null ) { throw new IllegalArgumentException("Invalid calculate salary type"); }
+        Map<Long, Person> persons = personRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Person::getId, Function.identity()));
+        List<PersonCalculationDTO> calculations = ids.stream()
+                .map(id -> this.calculatePersonAgeAndSalary(id, persons.get(id), ageType, salaryType, today))
+                .toList();
+        log.info("state=end-success-find-persons-age-salary , size={}, found={}", ids.size(), persons.size());
+        return calculations;
+    }
+
+    PersonCalculationDTO calculatePersonAgeAndSalary(Long id, Person person, AgeType ageType, SalaryType salaryType, LocalDate today) {
+        if(person == null) {
+            return PersonCalculationDTO.builder().id(id).error(new PersonNotFoundException().getMessage()).build();
+        }
+        try {
+            return PersonCalculationDTO.builder()
+                    .id(id)
+                    .age(this.calculatePersonAge(person.getBirthDate(), ageType, today))
+                    .salary(this.calculatePersonSalary(person.getHireDate(), salaryType, today))
+                    .build();
+        } catch (IllegalArgumentException ex) {
+            return PersonCalculationDTO.builder().id(id).error(ex.getMessage()).build();
+        }
+    }
+
     long calculatePersonAge(LocalDate birthDate, AgeType ageType) {
-        this.validateDate(birthDate);
+        return this.calculatePersonAge(birthDate, ageType, LocalDate.now(clock));
+    }
+
+    long calculatePersonAge(LocalDate birthDate, AgeType ageType, LocalDate today) {
+        this.validateDate(birthDate, today);
         if(ageType == null ) { throw new IllegalArgumentException("Invalid calculate age type"); }
-        LocalDate today = LocalDate.now();
+        ageCounters.get(ageType).increment();
         return switch(ageType){
             case AgeType.days -> ChronoUnit.DAYS.between(birthDate, today);
             case AgeType.months -> ChronoUnit.MONTHS.between(birthDate, today);
@@ -112,40 +443,58 @@ public class PersonServiceImpl implements PersonService {
     }
 
     BigDecimal calculatePersonSalary(LocalDate hireDate, SalaryType salaryType) {
-        this.validateDate(hireDate);
+        return this.calculatePersonSalary(hireDate, salaryType, LocalDate.now(clock));
+    }
+
+    BigDecimal calculatePersonSalary(LocalDate hireDate, SalaryType salaryType, LocalDate today) {
+        this.validateDate(hireDate, today);
         if(salaryType == null ) { throw new IllegalArgumentException("Invalid calculate salary type"); }
+        salaryCounters.get(salaryType).increment();
+        long hireYears = ChronoUnit.YEARS.between(hireDate, today);
         return switch(salaryType){
-            case SalaryType.full -> this.calculateFullSalary(hireDate);
-            case SalaryType.min -> this.calculateMinSalary(hireDate);
+            case SalaryType.full -> SalaryEngine.fullSalary(hireYears);
+            case SalaryType.min -> SalaryEngine.minSalary(hireYears);
         };
     }
 
     BigDecimal calculateFullSalary(LocalDate hireDate) {
-        this.validateDate(hireDate);
-        long hireYears = this.calculateHireYears(hireDate);
-        BigDecimal salary = INITIAL_SALARY;
-        while(hireYears > 0){
-            salary = salary.add(salary.multiply(PERCENT_INCRISE_SALARY).add(FIXED_INCRISE_SALARY));
-            hireYears--;
-        }
-        return salary;
+        return SalaryEngine.fullSalary(this.calculateHireYears(hireDate));
     }
 
     BigDecimal calculateMinSalary(LocalDate hireDate) {
-        this.validateDate(hireDate);
-        BigDecimal fullSalary = this.calculateFullSalary(hireDate);
-        return fullSalary.divide(MIN_SALARY, 2 , RoundingMode.UP);
+        return SalaryEngine.minSalary(this.calculateHireYears(hireDate));
     }
 
-    void validateDate(LocalDate date) {
-        if(Optional.ofNullable(date).isEmpty()){ throw new IllegalArgumentException("Invalid date"); }
-        LocalDate today = LocalDate.now();
+    void validateDate(LocalDate date, LocalDate today) {
+        if(date == null){ throw new IllegalArgumentException("Invalid date"); }
         if(date.isAfter(today)) { throw new IllegalArgumentException("Invalid future date"); }
     }
 
-    Long calculateHireYears(LocalDate hireDate) {
-        this.validateDate(hireDate);
-        LocalDate today = LocalDate.now();
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+    }
+
+    static String encodeCursor(Person person) {
+        String cursor = person.getId() + ":" + person.getName();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Person decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(':');
+            return Person.builder()
+                    .id(Long.valueOf(decoded.substring(0, separator)))
+                    .name(decoded.substring(separator + 1))
+                    .build();
+        } catch (RuntimeException ex) {
+            throw new PersonInvalidRequestException("Invalid cursor");
+        }
+    }
+
+    long calculateHireYears(LocalDate hireDate) {
+        LocalDate today = LocalDate.now(clock);
+        this.validateDate(hireDate, today);
         return ChronoUnit.YEARS.between(hireDate, today);
     }
 
@@ -0,0 +1,226 @@
+package com.poc.ex.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.poc.ex.mapper.PersonMapperService;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonWriteStatusDTO;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.model.enumeration.WriteStatus;
+import com.poc.ex.service.PersonService;
+import com.poc.ex.service.PersonWriteBehindService;
+import com.poc.ex.validation.exception.PersonDomainException;
+import com.poc.ex.validation.exception.PersonNotFoundException;
+import com.poc.ex.validation.exception.PersonWriteNotFoundException;
+import com.poc.ex.validation.exception.PersonWriteQueueFullException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Slf4j
+public class PersonWriteBehindServiceImpl implements PersonWriteBehindService {
+
+    static final String WRITE_FAILED = "Write could not be applied.";
+
+    private final PersonService personService;
+    private final PersonMapperService personMapperService;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int capacity;
+    private final int batchSize;
+    private final Map<Long, PendingWrite> pendingById = new LinkedHashMap<>();
+    private final Deque<PendingWrite> pendingCreates = new ArrayDeque<>();
+    private final Cache<String, PersonWriteStatusDTO> statuses;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public PersonWriteBehindServiceImpl(PersonService personService,
+                                        PersonMapperService personMapperService,
+                                        Clock clock,
+                                        @Value("${person.write-behind.enabled:false}") boolean enabled,
+                                        @Value("${person.write-behind.capacity:10000}") int capacity,
+                                        @Value("${person.write-behind.batch-size:100}") int batchSize,
+                                        @Value("${person.write-behind.status-ttl:PT10M}") Duration statusTtl) {
+        if(capacity < 1) { throw new IllegalArgumentException("Invalid write-behind capacity"); }
+        if(batchSize < 1) { throw new IllegalArgumentException("Invalid write-behind batch size"); }
+        this.personService = personService;
+        this.personMapperService = personMapperService;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.statuses = Caffeine.newBuilder().expireAfterWrite(statusTtl).build();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public PersonWriteStatusDTO accept(WriteOperation operation, Long id, PersonDTO personDTO) {
+        if(!enabled) { throw new IllegalArgumentException("Write-behind mode is disabled"); }
+        if(operation == null || (operation != WriteOperation.create && id == null)) { throw new IllegalArgumentException("Invalid write operation"); }
+        String writeId = UUID.randomUUID().toString();
+        PersonWriteStatusDTO accepted = PersonWriteStatusDTO.builder()
+                .writeId(writeId)
+                .operation(operation)
+                .personId(id)
+                .status(WriteStatus.pending)
+                .acceptedDate(LocalDateTime.now(clock))
+                .build();
+        synchronized (pendingById) {
+            if(operation == WriteOperation.create) {
+                this.ensureCapacity();
+                pendingCreates.add(new PendingWrite(operation, null, personDTO, writeId));
+            } else {
+                PendingWrite pending = pendingById.get(id);
+                if(pending == null) {
+                    this.ensureCapacity();
+                    pendingById.put(id, new PendingWrite(operation, id, personDTO, writeId));
+                } else {
+                    this.coalesce(pending, operation, personDTO);
+                    pending.writeIds.add(writeId);
+                }
+            }
+            statuses.put(writeId, accepted);
+        }
+        log.info("state=accepted-write-behind, writeId={}, operation={}, id={}", writeId, operation, id);
+        return accepted;
+    }
+
+    @Override
+    public PersonWriteStatusDTO findWriteStatus(String writeId) {
+        PersonWriteStatusDTO status = statuses.getIfPresent(writeId);
+        if(status == null) { throw new PersonWriteNotFoundException(); }
+        return status;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${person.write-behind.flush-interval:PT0.2S}")
+    public int flush() {
+        flushLock.lock();
+        try {
+            int flushed = 0;
+            List<PendingWrite> batch;
+            while (flushed < capacity && !(batch = this.drain()).isEmpty()) {
+                this.applyBatch(batch);
+                flushed += batch.size();
+            }
+            if(flushed > 0) { log.info("state=end-success-flush-write-behind, writes={}", flushed); }
+            return flushed;
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        this.flush();
+    }
+
+    private void ensureCapacity() {
+        if(pendingById.size() + pendingCreates.size() >= capacity) { throw new PersonWriteQueueFullException(); }
+    }
+
+    private void coalesce(PendingWrite pending, WriteOperation operation, PersonDTO personDTO) {
+        if(pending.operation == WriteOperation.delete) { throw new PersonNotFoundException(); }
+        switch (operation) {
+            case delete -> {
+                pending.operation = WriteOperation.delete;
+                pending.personDTO = null;
+            }
+            case update -> {
+                pending.operation = WriteOperation.update;
+                pending.personDTO = personDTO;
+            }
+            case patch -> pending.personDTO = personMapperService.toSomeFieldsPersonDTO(pending.personDTO, personDTO);
+            default -> throw new IllegalArgumentException("Invalid write operation");
+        }
+    }
+
+    private List<PendingWrite> drain() {
+        synchronized (pendingById) {
+            List<PendingWrite> batch = new ArrayList<>(Math.min(batchSize, pendingById.size() + pendingCreates.size()));
+            while (batch.size() < batchSize && !pendingCreates.isEmpty()) {
+                batch.add(pendingCreates.poll());
+            }
+            Iterator<PendingWrite> iterator = pendingById.values().iterator();
+            while (batch.size() < batchSize && iterator.hasNext()) {
+                batch.add(iterator.next());
+                iterator.remove();
+            }
+            return batch;
+        }
+    }
+
+    // Each write commits in the PersonService transaction of its own, so its optimistic-lock retries and
+    // failures stay local to it instead of marking a shared batch transaction rollback-only.
+    private void applyBatch(List<PendingWrite> batch) {
+        for (PendingWrite write : batch) {
+            try {
+                this.apply(write);
+                this.complete(write, null);
+            } catch (PersonDomainException ex) {
+                this.complete(write, ex.getMessage());
+            } catch (RuntimeException ex) {
+                log.warn("state=write-behind-exception, operation={}, id={}", write.operation, write.personId, ex);
+                this.complete(write, WRITE_FAILED);
+            }
+        }
+    }
+
+    private void apply(PendingWrite write) {
+        switch (write.operation) {
+            case create -> personService.savePerson(write.personDTO);
+            case update -> personService.updateAllFieldsPerson(write.personId, write.personDTO, null);
+            case patch -> personService.updateSomeFieldsPerson(write.personId, write.personDTO, null);
+            case delete -> personService.deletePerson(write.personId);
+        }
+    }
+
+    private void complete(PendingWrite write, String error) {
+        LocalDateTime completedDate = LocalDateTime.now(clock);
+        for (String writeId : write.writeIds) {
+            statuses.asMap().computeIfPresent(writeId, (key, status) -> PersonWriteStatusDTO.builder()
+                    .writeId(key)
+                    .operation(status.operation())
+                    .personId(status.personId())
+                    .status(error == null ? WriteStatus.applied : WriteStatus.failed)
+                    .error(error)
+                    .acceptedDate(status.acceptedDate())
+                    .completedDate(completedDate)
+                    .build());
+        }
+        if(error != null) { log.warn("state=write-behind-failed, operation={}, id={}, reason={}", write.operation, write.personId, error); }
+    }
+
+    private static final class PendingWrite {
+        private WriteOperation operation;
+        private final Long personId;
+        private PersonDTO personDTO;
+        private final List<String> writeIds = new ArrayList<>(1);
+
+        private PendingWrite(WriteOperation operation, Long personId, PersonDTO personDTO, String writeId) {
+            this.operation = operation;
+            this.personId = personId;
+            this.personDTO = personDTO;
+            this.writeIds.add(writeId);
+        }
+    }
+
+}
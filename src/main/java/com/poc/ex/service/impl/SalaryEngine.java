@@ -0,0 +1,58 @@
+package com.poc.ex.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Salary by years of service, precomputed once for the first {@link #TABLE_SIZE} tenures
+ * from the yearly recurrence (previous salary + 18% + 500.00).
+ */
+public final class SalaryEngine {
+
+    static final BigDecimal MIN_SALARY = new BigDecimal("1302.00");
+    static final BigDecimal INITIAL_SALARY = new BigDecimal("1558.00");
+    static final BigDecimal PERCENT_INCRISE_SALARY = new BigDecimal("0.18");
+    static final BigDecimal FIXED_INCRISE_SALARY = new BigDecimal("500.00");
+
+    static final int TABLE_SIZE = 128;
+
+    private static final BigDecimal[] FULL_SALARY_TABLE = new BigDecimal[TABLE_SIZE];
+    private static final BigDecimal[] MIN_SALARY_TABLE = new BigDecimal[TABLE_SIZE];
+
+    static {
+        BigDecimal salary = INITIAL_SALARY;
+        for (int hireYears = 0; hireYears < TABLE_SIZE; hireYears++) {
+            FULL_SALARY_TABLE[hireYears] = salary;
+            MIN_SALARY_TABLE[hireYears] = toMinSalary(salary);
+            salary = nextYearSalary(salary);
+        }
+    }
+
+    private SalaryEngine() {
+    }
+
+    public static BigDecimal fullSalary(long hireYears) {
+        if (hireYears <= 0) return FULL_SALARY_TABLE[0];
+        if (hireYears < TABLE_SIZE) return FULL_SALARY_TABLE[(int) hireYears];
+        BigDecimal salary = FULL_SALARY_TABLE[TABLE_SIZE - 1];
+        for (long year = TABLE_SIZE - 1; year < hireYears; year++) {
+            salary = nextYearSalary(salary);
+        }
+        return salary;
+    }
+
+    public static BigDecimal minSalary(long hireYears) {
+        if (hireYears <= 0) return MIN_SALARY_TABLE[0];
+        if (hireYears < TABLE_SIZE) return MIN_SALARY_TABLE[(int) hireYears];
+        return toMinSalary(fullSalary(hireYears));
+    }
+
+    private static BigDecimal nextYearSalary(BigDecimal salary) {
+        return salary.add(salary.multiply(PERCENT_INCRISE_SALARY).add(FIXED_INCRISE_SALARY));
+    }
+
+    private static BigDecimal toMinSalary(BigDecimal fullSalary) {
+        return fullSalary.divide(MIN_SALARY, 2, RoundingMode.UP);
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.poc.ex.service.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Collapses concurrent loads of the same key into one: the first caller runs the loader and every caller
+ * that arrives while it is in flight waits for, and shares, its result or exception. Nothing is kept once
+ * the load completes, so a later caller always starts a fresh load.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder sharedCount = new LongAdder();
+
+    V load(K key, Function<K, V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, call);
+        if(leader != null) {
+            sharedCount.increment();
+            return await(leader);
+        }
+        loadCount.increment();
+        try {
+            V value = loader.apply(key);
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    // Detaches the load in flight for the key, if any: callers already waiting keep its result, callers
+    // arriving afterwards start a new load. Writers call this after commit so no later read joins a load
+    // that may have read the previous state.
+    void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    long loadCount() {
+        return loadCount.sum();
+    }
+
+    long sharedCount() {
+        return sharedCount.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException ex) {
+            if(ex.getCause() instanceof RuntimeException cause) { throw cause; }
+            if(ex.getCause() instanceof Error cause) { throw cause; }
+            throw ex;
+        }
+    }
+
+}
@@ -1,10 +1,19 @@
 package com.poc.ex.validation;
 
 import com.poc.ex.model.dto.ErrorDTO;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
 
 public interface ApiExceptionHandler {
     ResponseEntity<ErrorDTO> genericException(Exception ex);
+    ResponseEntity<ErrorDTO> badRequestException(RuntimeException ex);
     ResponseEntity<ErrorDTO> notFoundException(RuntimeException ex);
     ResponseEntity<ErrorDTO> personAlreadyExistsException(RuntimeException ex);
+    ResponseEntity<ErrorDTO> dataIntegrityViolationException(DataIntegrityViolationException ex);
+    ResponseEntity<ErrorDTO> tooManyRequestsException(RuntimeException ex);
+    ResponseEntity<ErrorDTO> preconditionFailedException(RuntimeException ex);
+    ResponseEntity<ErrorDTO> updateConflictException(RuntimeException ex);
+    ResponseEntity<ErrorDTO> goneException(RuntimeException ex);
+    ResponseEntity<ErrorDTO> invalidBodyException(BindingResult bindingResult);
 }
@@ -1,7 +1,18 @@
 package com.poc.ex.validation.exception;
 
-public class PersonAlreadyExistsException extends RuntimeException {
+import org.springframework.dao.DataIntegrityViolationException;
+import java.util.Locale;
+
+public class PersonAlreadyExistsException extends PersonDomainException {
+
+    static final String UNIQUE_NAME_BIRTH_DATE = "UQ_PERSON_NAME_BIRTH_DATE";
+
     public PersonAlreadyExistsException() {
         super("Person already exists.");
     }
+
+    public static boolean isViolatedBy(DataIntegrityViolationException ex) {
+        String message = ex.getMostSpecificCause().getMessage();
+        return message != null && message.toUpperCase(Locale.ROOT).contains(UNIQUE_NAME_BIRTH_DATE);
+    }
 }
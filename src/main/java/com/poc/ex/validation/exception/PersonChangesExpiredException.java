@@ -0,0 +1,7 @@
+package com.poc.ex.validation.exception;
+
+public class PersonChangesExpiredException extends PersonDomainException {
+    public PersonChangesExpiredException(long resumeOffset) {
+        super("Changes after the requested offset were purged; resync and read after offset " + resumeOffset);
+    }
+}
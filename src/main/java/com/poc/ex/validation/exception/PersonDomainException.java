@@ -0,0 +1,11 @@
+package com.poc.ex.validation.exception;
+
+/**
+ * Base for expected, client-facing failures. They are thrown on ordinary request paths
+ * (unknown ids, duplicates, stale versions), so the stack trace is never captured.
+ */
+public abstract class PersonDomainException extends RuntimeException {
+    protected PersonDomainException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,5 @@
+package com.poc.ex.validation.exception;
+
+public class PersonInvalidRequestException extends PersonDomainException {
+    public PersonInvalidRequestException(String message) { super(message); }
+}
@@ -1,5 +1,5 @@
 package com.poc.ex.validation.exception;
 
-public class PersonNotFoundException extends RuntimeException {
+public class PersonNotFoundException extends PersonDomainException {
     public PersonNotFoundException() { super("Person not found."); }
 }
@@ -0,0 +1,5 @@
+package com.poc.ex.validation.exception;
+
+public class PersonUpdateConflictException extends PersonDomainException {
+    public PersonUpdateConflictException() { super("Person was modified concurrently, retry the update."); }
+}
@@ -0,0 +1,5 @@
+package com.poc.ex.validation.exception;
+
+public class PersonVersionMismatchException extends PersonDomainException {
+    public PersonVersionMismatchException() { super("Person version does not match If-Match."); }
+}
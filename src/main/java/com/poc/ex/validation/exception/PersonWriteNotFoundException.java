@@ -0,0 +1,5 @@
+package com.poc.ex.validation.exception;
+
+public class PersonWriteNotFoundException extends PersonDomainException {
+    public PersonWriteNotFoundException() { super("Person write not found."); }
+}
@@ -0,0 +1,5 @@
+package com.poc.ex.validation.exception;
+
+public class PersonWriteQueueFullException extends PersonDomainException {
+    public PersonWriteQueueFullException() { super("Person write queue is full, retry later."); }
+}
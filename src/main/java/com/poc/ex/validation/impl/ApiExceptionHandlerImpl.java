@@ -3,59 +3,164 @@ package com.poc.ex.validation.impl;
 import com.poc.ex.model.dto.ErrorDTO;
 import com.poc.ex.validation.ApiExceptionHandler;
 import com.poc.ex.validation.exception.PersonAlreadyExistsException;
+import com.poc.ex.validation.exception.PersonChangesExpiredException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import com.poc.ex.validation.exception.PersonDomainException;
+import com.poc.ex.validation.exception.PersonInvalidRequestException;
 import com.poc.ex.validation.exception.PersonNotFoundException;
+import com.poc.ex.validation.exception.PersonUpdateConflictException;
+import com.poc.ex.validation.exception.PersonVersionMismatchException;
+import com.poc.ex.validation.exception.PersonWriteNotFoundException;
+import com.poc.ex.validation.exception.PersonWriteQueueFullException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @RestControllerAdvice
 public class ApiExceptionHandlerImpl implements ApiExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final long logSampleRate;
+    private final Map<HttpStatus, AtomicLong> clientErrors = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ErrorDTO> rendered = new ConcurrentHashMap<>();
+
+    public ApiExceptionHandlerImpl(MeterRegistry meterRegistry,
+                                   Clock clock,
+                                   @Value("${person.api.client-error-log-sample-rate:100}") long logSampleRate) {
+        if(logSampleRate < 1) { throw new IllegalArgumentException("Invalid client error log sample rate"); }
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.logSampleRate = logSampleRate;
+    }
+
     @Override
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorDTO> genericException(Exception ex) {
         log.error("state=generic-exception", ex);
         ErrorDTO apiError = ErrorDTO
                 .builder()
-                .dateTime(LocalDateTime.now())
+                .dateTime(LocalDateTime.now(clock))
                 .code(HttpStatus.INTERNAL_SERVER_ERROR.value())
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.name())
                 .errors(List.of(ex.getMessage()))
                 .build();
+        this.countResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex);
         return new ResponseEntity<>(apiError, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     @Override
-    @ExceptionHandler(PersonNotFoundException.class)
+    @ExceptionHandler(PersonInvalidRequestException.class)
+    public ResponseEntity<ErrorDTO> badRequestException(RuntimeException ex) {
+        return this.clientError("state=bad-request-exception", HttpStatus.BAD_REQUEST, ex);
+    }
+
+    @Override
+    @ExceptionHandler({PersonNotFoundException.class, PersonWriteNotFoundException.class})
     public ResponseEntity<ErrorDTO> notFoundException(RuntimeException ex) {
-        log.error("state=not-found-exception", ex);
-        ErrorDTO apiError = ErrorDTO
-                .builder()
-                .dateTime(LocalDateTime.now())
-                .code(HttpStatus.NOT_FOUND.value())
-                .status(HttpStatus.NOT_FOUND.name())
-                .errors(List.of(ex.getMessage()))
-                .build();
-        return new ResponseEntity<>(apiError, HttpStatus.NOT_FOUND);
+        return this.clientError("state=not-found-exception", HttpStatus.NOT_FOUND, ex);
     }
 
     @Override
     @ExceptionHandler(PersonAlreadyExistsException.class)
     public ResponseEntity<ErrorDTO> personAlreadyExistsException(RuntimeException ex) {
-        log.error("state=person-already-exists-exception", ex);
-        ErrorDTO apiError = ErrorDTO
+        return this.clientError("state=person-already-exists-exception", HttpStatus.CONFLICT, ex);
+    }
+
+    @Override
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ErrorDTO> dataIntegrityViolationException(DataIntegrityViolationException ex) {
+        if(PersonAlreadyExistsException.isViolatedBy(ex)) { return this.personAlreadyExistsException(new PersonAlreadyExistsException()); }
+        return this.genericException(ex);
+    }
+
+    @Override
+    @ExceptionHandler(PersonWriteQueueFullException.class)
+    public ResponseEntity<ErrorDTO> tooManyRequestsException(RuntimeException ex) {
+        ResponseEntity<ErrorDTO> response = this.clientError("state=too-many-requests-exception", HttpStatus.TOO_MANY_REQUESTS, ex);
+        return ResponseEntity.status(response.getStatusCode()).header(HttpHeaders.RETRY_AFTER, "1").body(response.getBody());
+    }
+
+    @Override
+    @ExceptionHandler(PersonVersionMismatchException.class)
+    public ResponseEntity<ErrorDTO> preconditionFailedException(RuntimeException ex) {
+        return this.clientError("state=precondition-failed-exception", HttpStatus.PRECONDITION_FAILED, ex);
+    }
+
+    @Override
+    @ExceptionHandler(PersonUpdateConflictException.class)
+    public ResponseEntity<ErrorDTO> updateConflictException(RuntimeException ex) {
+        return this.clientError("state=update-conflict-exception", HttpStatus.CONFLICT, ex);
+    }
+
+    @Override
+    @ExceptionHandler(PersonChangesExpiredException.class)
+    public ResponseEntity<ErrorDTO> goneException(RuntimeException ex) {
+        return this.clientError("state=gone-exception", HttpStatus.GONE, ex);
+    }
+
+    // Also reached from the reactive controller with a WebExchangeBindException, which is a BindingResult as well.
+    @Override
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorDTO> invalidBodyException(BindingResult bindingResult) {
+        ObjectError error = bindingResult.getAllErrors().get(0);
+        String message = error instanceof FieldError fieldError ? fieldError.getField() + ": " + error.getDefaultMessage() : error.getDefaultMessage();
+        return this.badRequestException(new PersonInvalidRequestException(message));
+    }
+
+    private ResponseEntity<ErrorDTO> clientError(String state, HttpStatus status, RuntimeException ex) {
+        long seen = clientErrors.computeIfAbsent(status, key -> new AtomicLong()).getAndIncrement();
+        if(seen % logSampleRate == 0) {
+            log.warn("{}, status={}, reason={}, seen={}", state, status.value(), ex.getMessage(), seen + 1);
+        }
+        this.countResponse(status, ex);
+        return new ResponseEntity<>(this.render(status, ex), status);
+    }
+
+    // Domain messages are mostly fixed per exception type and dateTime is rendered to the second,
+    // so one ErrorDTO per type can be shared by every response within the same second that carries the same message.
+    private ErrorDTO render(HttpStatus status, RuntimeException ex) {
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.SECONDS);
+        if(!(ex instanceof PersonDomainException)) { return this.build(status, ex.getMessage(), now); }
+        ErrorDTO cached = rendered.get(ex.getClass());
+        if(cached != null && cached.dateTime().equals(now) && cached.code() == status.value()
+                && cached.errors().get(0).equals(ex.getMessage())) return cached;
+        ErrorDTO apiError = this.build(status, ex.getMessage(), now);
+        rendered.put(ex.getClass(), apiError);
+        return apiError;
+    }
+
+    private ErrorDTO build(HttpStatus status, String message, LocalDateTime dateTime) {
+        return ErrorDTO
                 .builder()
-                .dateTime(LocalDateTime.now())
-                .code(HttpStatus.CONFLICT.value())
-                .status(HttpStatus.CONFLICT.name())
-                .errors(List.of(ex.getMessage()))
+                .dateTime(dateTime)
+                .code(status.value())
+                .status(status.name())
+                .errors(List.of(message))
                 .build();
-        return new ResponseEntity<>(apiError, HttpStatus.CONFLICT);
+    }
+
+    private void countResponse(HttpStatus status, Exception ex) {
+        meterRegistry.counter("person.api.errors",
+                "status", String.valueOf(status.value()),
+                "exception", ex.getClass().getSimpleName()).increment();
     }
 
 }
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS IDX_PERSON_UPDATE_DATE ON PUBLIC.PERSON (UPDATE_DATE);
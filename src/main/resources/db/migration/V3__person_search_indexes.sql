@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS IDX_PERSON_NAME_ID ON PUBLIC.PERSON (NAME, ID);
+CREATE INDEX IF NOT EXISTS IDX_PERSON_BIRTH_DATE ON PUBLIC.PERSON (BIRTH_DATE);
+CREATE INDEX IF NOT EXISTS IDX_PERSON_HIRE_DATE ON PUBLIC.PERSON (HIRE_DATE);
@@ -0,0 +1 @@
+ALTER TABLE PUBLIC.PERSON ADD COLUMN IF NOT EXISTS VERSION BIGINT DEFAULT 0 NOT NULL;
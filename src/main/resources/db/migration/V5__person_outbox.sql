@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS PUBLIC.PERSON_OUTBOX (
+    ID BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    SEQ BIGINT,
+    PERSON_ID BIGINT NOT NULL,
+    OPERATION VARCHAR(10) NOT NULL,
+    PERSON_VERSION BIGINT,
+    NAME VARCHAR(120),
+    BIRTH_DATE DATE,
+    HIRE_DATE DATE,
+    CREATE_DATE TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS IDX_PERSON_OUTBOX_CREATE_DATE ON PUBLIC.PERSON_OUTBOX (CREATE_DATE);
+CREATE UNIQUE INDEX IF NOT EXISTS UQ_PERSON_OUTBOX_SEQ ON PUBLIC.PERSON_OUTBOX (SEQ);
+
+CREATE TABLE IF NOT EXISTS PUBLIC.PERSON_OUTBOX_SEQUENCE (
+    ID INT PRIMARY KEY,
+    LAST_SEQ BIGINT NOT NULL
+);
+INSERT INTO PUBLIC.PERSON_OUTBOX_SEQUENCE (ID, LAST_SEQ) VALUES (1, 0);
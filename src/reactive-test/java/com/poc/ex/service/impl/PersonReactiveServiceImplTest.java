@@ -0,0 +1,142 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.dto.PersonCalculationDTO;
+import com.poc.ex.model.dto.PersonChangeDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonPageDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.service.PersonOutboxService;
+import com.poc.ex.service.PersonReactiveService;
+import com.poc.ex.service.PersonService;
+import com.poc.ex.validation.exception.PersonAlreadyExistsException;
+import com.poc.ex.validation.exception.PersonInvalidRequestException;
+import com.poc.ex.validation.exception.PersonNotFoundException;
+import com.poc.ex.validation.exception.PersonVersionMismatchException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("reactive")
+class PersonReactiveServiceImplTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1980, 1, 1);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDate AS_OF = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private PersonReactiveService personReactiveService;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonOutboxService personOutboxService;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void shouldCalculateAgeAndSalaryLikeServletStack() {
+        personReactiveService.savePerson(new PersonDTO("REACTIVE-CALC", BIRTH_DATE, HIRE_DATE)).block();
+        Long id = this.findId("REACTIVE-CALC");
+
+        assertEquals(45L, personReactiveService.findPersonAge(id, AgeType.years, AS_OF).block());
+        assertEquals(SalaryEngine.fullSalary(25), personReactiveService.findPersonSalary(id, SalaryType.full, AS_OF).block());
+        List<PersonCalculationDTO> calculations = personReactiveService.findPersonsAgeAndSalary(List.of(id, Long.MAX_VALUE), AgeType.months, SalaryType.min, AS_OF).block();
+        assertEquals(540L, calculations.get(0).age());
+        assertEquals(SalaryEngine.minSalary(25), calculations.get(0).salary());
+        assertEquals("Person not found.", calculations.get(1).error());
+        assertThrows(PersonNotFoundException.class, () -> personReactiveService.findPersonSalary(Long.MAX_VALUE, SalaryType.full, AS_OF).block());
+        assertThrows(PersonInvalidRequestException.class, () -> personReactiveService.findPersonSalary(id, SalaryType.full, HIRE_DATE.minusDays(1)).block());
+        assertEquals(19L, personReactiveService.findPersonAge(id, AgeType.years, HIRE_DATE.minusDays(1)).block());
+    }
+
+    @Test
+    void shouldApplyIfMatchAndReportConflicts() {
+        personReactiveService.savePerson(new PersonDTO("REACTIVE-VERSION", BIRTH_DATE, HIRE_DATE)).block();
+        Long id = this.findId("REACTIVE-VERSION");
+
+        personReactiveService.updateSomeFieldsPerson(id, PersonDTO.builder().name("REACTIVE-VERSION-1").build(), 0L).block();
+        VersionedPersonDTO updated = personReactiveService.findOneVersionedPerson(id).block();
+        assertEquals("REACTIVE-VERSION-1", updated.person().name());
+        assertEquals(BIRTH_DATE, updated.person().birthDate());
+        assertEquals(1L, updated.version());
+
+        assertThrows(PersonVersionMismatchException.class,
+                () -> personReactiveService.updateAllFieldsPerson(id, new PersonDTO("REACTIVE-VERSION-2", BIRTH_DATE, HIRE_DATE), 0L).block());
+        assertThrows(PersonNotFoundException.class,
+                () -> personReactiveService.updateSomeFieldsPerson(Long.MAX_VALUE, PersonDTO.builder().name("REACTIVE-VERSION-3").build(), 0L).block());
+        assertThrows(PersonAlreadyExistsException.class,
+                () -> personReactiveService.savePerson(new PersonDTO("REACTIVE-VERSION-1", BIRTH_DATE, HIRE_DATE)).block());
+
+        personReactiveService.deletePerson(id).block();
+        assertThrows(PersonNotFoundException.class, () -> personReactiveService.findOneVersionedPerson(id).block());
+        assertThrows(PersonNotFoundException.class, () -> personReactiveService.deletePerson(id).block());
+    }
+
+    @Test
+    void shouldRunServletPostCommitHooksAndAppendOutbox() {
+        long head = personOutboxService.poll();
+        personReactiveService.savePerson(new PersonDTO("REACTIVE-HOOKS", BIRTH_DATE, HIRE_DATE)).block();
+        Long id = this.findId("REACTIVE-HOOKS");
+        assertEquals(0L, personService.findOneVersionedPerson(id).version());
+        assertEquals(45L, personService.findPersonAge(id, AgeType.years, AS_OF));
+
+        personReactiveService.updateSomeFieldsPerson(id, PersonDTO.builder().birthDate(BIRTH_DATE.plusYears(1)).build(), 0L).block();
+        assertEquals(1L, personService.findOneVersionedPerson(id).version());
+        assertEquals(44L, personService.findPersonAge(id, AgeType.years, AS_OF));
+
+        personReactiveService.updateAllFieldsPerson(id, new PersonDTO("REACTIVE-HOOKS", BIRTH_DATE, HIRE_DATE), 1L).block();
+        personReactiveService.deletePerson(id).block();
+        assertThrows(PersonNotFoundException.class, () -> personService.findOneVersionedPerson(id));
+
+        personOutboxService.poll();
+        List<PersonChangeDTO> changes = personOutboxService.findChanges(head, 10).changes();
+        assertEquals(List.of(WriteOperation.create, WriteOperation.patch, WriteOperation.update, WriteOperation.delete),
+                changes.stream().map(PersonChangeDTO::operation).toList());
+        assertTrue(changes.stream().allMatch(change -> id.equals(change.personId())));
+        assertEquals(List.of(0L, 1L, 2L), changes.subList(0, 3).stream().map(PersonChangeDTO::version).toList());
+        assertNull(changes.get(3).person());
+    }
+
+    @Test
+    void shouldNotAppendOutboxForRejectedWrites() {
+        personReactiveService.savePerson(new PersonDTO("REACTIVE-REJECTED", BIRTH_DATE, HIRE_DATE)).block();
+        Long id = this.findId("REACTIVE-REJECTED");
+        long head = personOutboxService.poll();
+
+        assertThrows(PersonAlreadyExistsException.class,
+                () -> personReactiveService.savePerson(new PersonDTO("REACTIVE-REJECTED", BIRTH_DATE, HIRE_DATE)).block());
+        assertThrows(PersonVersionMismatchException.class,
+                () -> personReactiveService.updateSomeFieldsPerson(id, PersonDTO.builder().name("X").build(), 9L).block());
+
+        personOutboxService.poll();
+        assertTrue(personOutboxService.findChanges(head, 10).changes().isEmpty());
+        personReactiveService.deletePerson(id).block();
+    }
+
+    @Test
+    void shouldPageWithServletCursor() {
+        PersonPageDTO first = personReactiveService.findPagePersonOrderByName(null, 1).block();
+        PersonPageDTO second = personReactiveService.findPagePersonOrderByName(first.nextCursor(), 1).block();
+
+        assertEquals(1, first.persons().size());
+        assertTrue(first.persons().get(0).name().compareTo(second.persons().get(0).name()) < 0);
+        assertThrows(PersonInvalidRequestException.class, () -> personReactiveService.findPagePersonOrderByName(null, 0).block());
+    }
+
+    private Long findId(String name) {
+        return databaseClient.sql("SELECT ID FROM PERSON WHERE NAME = :name").bind("name", name)
+                .map(row -> row.get("ID", Long.class)).one().block();
+    }
+
+}
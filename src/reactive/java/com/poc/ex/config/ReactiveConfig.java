@@ -0,0 +1,58 @@
+package com.poc.ex.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(R2dbcProperties.class)
+public class ReactiveConfig {
+
+    // The pool is not exposed as a bean: Boot backs the JDBC DataSource off as soon as a ConnectionFactory bean
+    // exists, and JPA, Flyway and the post-commit hooks still run on JDBC.
+    private final ConnectionPool connectionPool;
+
+    public ReactiveConfig(R2dbcProperties r2dbcProperties) {
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactoryBuilder.withUrl(r2dbcProperties.getUrl())
+                        .username(r2dbcProperties.getUsername())
+                        .password(r2dbcProperties.getPassword())
+                        .build())
+                .maxSize(r2dbcProperties.getPool().getMaxSize())
+                .build());
+    }
+
+    // Tomcat stays on the classpath for the servlet stack and would otherwise win the reactive server lookup. Under the
+    // 256-thread load benchmark, WebFlux on Tomcat left a worker spinning in a non-blocking flush and never finished warm-up.
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    // Likewise only the operator is shared, so @Transactional keeps the JPA transaction manager as its single candidate.
+    @Bean
+    public TransactionalOperator reactiveTransactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @PreDestroy
+    public void close() {
+        connectionPool.dispose();
+    }
+
+}
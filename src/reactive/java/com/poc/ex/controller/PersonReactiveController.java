@@ -0,0 +1,137 @@
+package com.poc.ex.controller;
+
+import com.poc.ex.model.dto.ErrorDTO;
+import com.poc.ex.model.dto.PersonCalculationRequestDTO;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.service.PersonReactiveService;
+import com.poc.ex.validation.ApiExceptionHandler;
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * WebFlux variant of {@link PersonController} served under the reactive profile, with the same routes and
+ * payloads for the core CRUD, age and salary endpoints. Search, analytics, export, import and write-behind
+ * stay servlet-only.
+ */
+@RestController
+@Slf4j
+@Profile("reactive")
+@AllArgsConstructor
+public class PersonReactiveController {
+
+    private final PersonReactiveService personReactiveService;
+    private final ApiExceptionHandler apiExceptionHandler;
+
+    @GetMapping("/person/{id}")
+    public Mono<ResponseEntity<Object>> getOnePerson(@PathVariable(value = "id") Long id, ServerWebExchange exchange) {
+        return personReactiveService.findOneVersionedPerson(id).map(versionedPerson -> {
+            String eTag = id + "-" + versionedPerson.version();
+            if(exchange.checkNotModified(eTag, toInstant(versionedPerson.updateDate()))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return ResponseEntity.ok().eTag(eTag).body(versionedPerson.person());
+        });
+    }
+
+    @GetMapping("/person/{id}/age")
+    public Mono<ResponseEntity<Object>> getAgePerson(@PathVariable(value = "id") Long id,
+                                                     @RequestParam AgeType ageType,
+                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return personReactiveService.findPersonAge(id, ageType, asOf).map(age -> new ResponseEntity<>(age, HttpStatus.OK));
+    }
+
+    @GetMapping("/person/{id}/salary")
+    public Mono<ResponseEntity<Object>> getSalaryPerson(@PathVariable(value = "id") Long id,
+                                                        @RequestParam SalaryType salaryType,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return personReactiveService.findPersonSalary(id, salaryType, asOf).map(salary -> new ResponseEntity<>(salary, HttpStatus.OK));
+    }
+
+    @PostMapping("/person/calculations")
+    public Mono<ResponseEntity<Object>> getPersonsAgeAndSalary(@Valid @RequestBody PersonCalculationRequestDTO request,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return personReactiveService.findPersonsAgeAndSalary(request.ids(), request.ageType(), request.salaryType(), asOf)
+                .map(calculations -> new ResponseEntity<>(calculations, HttpStatus.OK));
+    }
+
+    @GetMapping("/person")
+    public Mono<ResponseEntity<Object>> getPersons(ServerWebExchange exchange) {
+        return personReactiveService.findPersonCollectionVersion().flatMap(version -> {
+            String eTag = "persons-" + version.count() + "-" + toEpochMilli(version);
+            if(exchange.checkNotModified(eTag, toInstant(version.lastUpdateDate()))) {
+                return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build());
+            }
+            return personReactiveService.findAllPersonOrderByName().map(persons -> ResponseEntity.ok().eTag(eTag).body(persons));
+        });
+    }
+
+    @GetMapping("/person/page")
+    public Mono<ResponseEntity<Object>> getPagePersons(@RequestParam(required = false) String cursor,
+                                                       @RequestParam(defaultValue = "50") int size) {
+        return personReactiveService.findPagePersonOrderByName(cursor, size).map(page -> new ResponseEntity<>(page, HttpStatus.OK));
+    }
+
+    @GetMapping(value = "/person/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PersonDTO> streamPersons() {
+        return personReactiveService.streamAllPersonOrderByName();
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Object>> savePerson(@Valid @RequestBody PersonDTO personDto) {
+        return personReactiveService.savePerson(personDto).thenReturn(new ResponseEntity<>(HttpStatus.CREATED));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Object>> updatePerson(@PathVariable(value = "id") Long id,
+                                                     @Valid @RequestBody PersonDTO personDto,
+                                                     @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return Mono.defer(() -> personReactiveService.updateAllFieldsPerson(id, personDto, PersonController.toExpectedVersion(id, ifMatch)))
+                .thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Object>> partialUpdatePerson(@PathVariable(value = "id") Long id,
+                                                            @Valid @RequestBody PersonDTO personDto,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return Mono.defer(() -> personReactiveService.updateSomeFieldsPerson(id, personDto, PersonController.toExpectedVersion(id, ifMatch)))
+                .thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+
+    @DeleteMapping("/person/{id}")
+    public Mono<ResponseEntity<Object>> deletePerson(@PathVariable(value = "id") Long id) {
+        return personReactiveService.deletePerson(id).thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorDTO> invalidBodyException(WebExchangeBindException ex) {
+        return apiExceptionHandler.invalidBodyException(ex);
+    }
+
+    private static Instant toInstant(LocalDateTime dateTime) {
+        return dateTime == null ? Instant.EPOCH : dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    private static long toEpochMilli(PersonCollectionVersionDTO version) {
+        return version.lastUpdateDate() == null ? 0 : version.lastUpdateDate().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+}
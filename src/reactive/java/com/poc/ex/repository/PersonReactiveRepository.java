@@ -0,0 +1,28 @@
+package com.poc.ex.repository;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.model.enumeration.WriteOperation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface PersonReactiveRepository {
+    Mono<VersionedPersonDTO> findVersionedPersonById(Long id);
+    Mono<PersonDTO> findDatesById(Long id);
+    Mono<PersonCollectionVersionDTO> findCollectionVersion();
+    Flux<PersonDTO> findAllPersonDTOByOrderByNameAsc();
+    Flux<Person> findAllByOrderByNameAscIdAsc(int limit);
+    Flux<Person> findAllAfterOrderByNameAsc(String name, Long id, int limit);
+    Flux<Person> findAllById(Collection<Long> ids);
+    Mono<Boolean> existsById(Long id);
+    Mono<Long> insert(Person person);
+    Mono<Long> updateAllFields(Long id, PersonDTO personDTO, LocalDateTime updateDate, Long version);
+    Mono<Long> updateSomeFields(Long id, String name, LocalDate birthDate, LocalDate hireDate, LocalDateTime updateDate, Long version);
+    Mono<Long> deleteById(Long id);
+    Mono<Void> appendOutbox(WriteOperation operation, Long id, LocalDateTime createDate);
+}
@@ -0,0 +1,176 @@
+package com.poc.ex.repository.impl;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.repository.PersonReactiveRepository;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class PersonReactiveRepositoryImpl implements PersonReactiveRepository {
+
+    private static final String SELECT_PERSON = "SELECT ID, NAME, BIRTH_DATE, HIRE_DATE FROM PERSON ";
+    private static final String INSERT_PERSON =
+            "INSERT INTO PERSON (NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE, UPDATE_DATE) VALUES (:name, :birthDate, :hireDate, :createDate, :updateDate)";
+    private static final String UPDATE_ALL_FIELDS =
+            "UPDATE PERSON SET NAME = :name, BIRTH_DATE = :birthDate, HIRE_DATE = :hireDate, UPDATE_DATE = :updateDate, VERSION = VERSION + 1 WHERE ID = :id";
+    private static final String UPDATE_SOME_FIELDS =
+            "UPDATE PERSON SET NAME = COALESCE(:name, NAME), BIRTH_DATE = COALESCE(:birthDate, BIRTH_DATE), "
+            + "HIRE_DATE = COALESCE(:hireDate, HIRE_DATE), UPDATE_DATE = :updateDate, VERSION = VERSION + 1 WHERE ID = :id";
+    private static final String VERSION_MATCHES = " AND VERSION = :version";
+    private static final String APPEND_OUTBOX =
+            "INSERT INTO PERSON_OUTBOX (PERSON_ID, OPERATION, PERSON_VERSION, NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE) "
+            + "SELECT ID, :operation, VERSION, NAME, BIRTH_DATE, HIRE_DATE, :createDate FROM PERSON WHERE ID = :id";
+    private static final String APPEND_OUTBOX_DELETE =
+            "INSERT INTO PERSON_OUTBOX (PERSON_ID, OPERATION, CREATE_DATE) VALUES (:id, :operation, :createDate)";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<VersionedPersonDTO> findVersionedPersonById(Long id) {
+        return databaseClient.sql("SELECT NAME, BIRTH_DATE, HIRE_DATE, UPDATE_DATE, VERSION FROM PERSON WHERE ID = :id")
+                .bind("id", id)
+                .map(row -> new VersionedPersonDTO(row.get("NAME", String.class), row.get("BIRTH_DATE", LocalDate.class),
+                        row.get("HIRE_DATE", LocalDate.class), row.get("UPDATE_DATE", LocalDateTime.class), row.get("VERSION", Long.class)))
+                .one();
+    }
+
+    @Override
+    public Mono<PersonDTO> findDatesById(Long id) {
+        return databaseClient.sql("SELECT BIRTH_DATE, HIRE_DATE FROM PERSON WHERE ID = :id")
+                .bind("id", id)
+                .map(row -> new PersonDTO(null, row.get("BIRTH_DATE", LocalDate.class), row.get("HIRE_DATE", LocalDate.class)))
+                .one();
+    }
+
+    @Override
+    public Mono<PersonCollectionVersionDTO> findCollectionVersion() {
+        return databaseClient.sql("SELECT COUNT(*) AS TOTAL, MAX(UPDATE_DATE) AS LAST_UPDATE_DATE FROM PERSON")
+                .map(row -> new PersonCollectionVersionDTO(row.get("TOTAL", Long.class), row.get("LAST_UPDATE_DATE", LocalDateTime.class)))
+                .one();
+    }
+
+    @Override
+    public Flux<PersonDTO> findAllPersonDTOByOrderByNameAsc() {
+        return databaseClient.sql("SELECT NAME, BIRTH_DATE, HIRE_DATE FROM PERSON ORDER BY NAME")
+                .map(row -> new PersonDTO(row.get("NAME", String.class), row.get("BIRTH_DATE", LocalDate.class), row.get("HIRE_DATE", LocalDate.class)))
+                .all();
+    }
+
+    @Override
+    public Flux<Person> findAllByOrderByNameAscIdAsc(int limit) {
+        return databaseClient.sql(SELECT_PERSON + "ORDER BY NAME, ID LIMIT :limit")
+                .bind("limit", limit)
+                .map(PersonReactiveRepositoryImpl::toPerson)
+                .all();
+    }
+
+    @Override
+    public Flux<Person> findAllAfterOrderByNameAsc(String name, Long id, int limit) {
+        return databaseClient.sql(SELECT_PERSON + "WHERE NAME > :name OR (NAME = :name AND ID > :id) ORDER BY NAME, ID LIMIT :limit")
+                .bind("name", name)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(PersonReactiveRepositoryImpl::toPerson)
+                .all();
+    }
+
+    @Override
+    public Flux<Person> findAllById(Collection<Long> ids) {
+        return databaseClient.sql(SELECT_PERSON + "WHERE ID IN (:ids)")
+                .bind("ids", ids)
+                .map(PersonReactiveRepositoryImpl::toPerson)
+                .all();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT 1 FROM PERSON WHERE ID = :id")
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    @Override
+    public Mono<Long> insert(Person person) {
+        return databaseClient.sql(INSERT_PERSON)
+                .filter(statement -> statement.returnGeneratedValues("ID"))
+                .bind("name", person.getName())
+                .bind("birthDate", person.getBirthDate())
+                .bind("hireDate", person.getHireDate())
+                .bind("createDate", person.getCreateDate())
+                .bind("updateDate", person.getUpdateDate())
+                .map(row -> row.get("ID", Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Long> updateAllFields(Long id, PersonDTO personDTO, LocalDateTime updateDate, Long version) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(version == null ? UPDATE_ALL_FIELDS : UPDATE_ALL_FIELDS + VERSION_MATCHES)
+                .bind("id", id)
+                .bind("updateDate", updateDate);
+        spec = bind(spec, "name", personDTO.name(), String.class);
+        spec = bind(spec, "birthDate", personDTO.birthDate(), LocalDate.class);
+        spec = bind(spec, "hireDate", personDTO.hireDate(), LocalDate.class);
+        if(version != null) { spec = spec.bind("version", version); }
+        return spec.fetch().rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> updateSomeFields(Long id, String name, LocalDate birthDate, LocalDate hireDate, LocalDateTime updateDate, Long version) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(version == null ? UPDATE_SOME_FIELDS : UPDATE_SOME_FIELDS + VERSION_MATCHES)
+                .bind("id", id)
+                .bind("updateDate", updateDate);
+        spec = bind(spec, "name", name, String.class);
+        spec = bind(spec, "birthDate", birthDate, LocalDate.class);
+        spec = bind(spec, "hireDate", hireDate, LocalDate.class);
+        if(version != null) { spec = spec.bind("version", version); }
+        return spec.fetch().rowsUpdated();
+    }
+
+    @Override
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM PERSON WHERE ID = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    // Same row the servlet stack appends, read back from PERSON so it carries the version the write produced.
+    @Override
+    public Mono<Void> appendOutbox(WriteOperation operation, Long id, LocalDateTime createDate) {
+        return databaseClient.sql(operation == WriteOperation.delete ? APPEND_OUTBOX_DELETE : APPEND_OUTBOX)
+                .bind("id", id)
+                .bind("operation", operation.name())
+                .bind("createDate", createDate)
+                .then();
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static Person toPerson(Readable row) {
+        return Person.builder()
+                .id(row.get("ID", Long.class))
+                .name(row.get("NAME", String.class))
+                .birthDate(row.get("BIRTH_DATE", LocalDate.class))
+                .hireDate(row.get("HIRE_DATE", LocalDate.class))
+                .build();
+    }
+
+}
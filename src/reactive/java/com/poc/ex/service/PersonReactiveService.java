@@ -0,0 +1,29 @@
+package com.poc.ex.service;
+
+import com.poc.ex.model.dto.PersonCalculationDTO;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonPageDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PersonReactiveService {
+    Mono<VersionedPersonDTO> findOneVersionedPerson(Long id);
+    Mono<PersonCollectionVersionDTO> findPersonCollectionVersion();
+    Mono<List<PersonDTO>> findAllPersonOrderByName();
+    Mono<PersonPageDTO> findPagePersonOrderByName(String cursor, int size);
+    Flux<PersonDTO> streamAllPersonOrderByName();
+    Mono<Void> savePerson(PersonDTO personDTO);
+    Mono<Void> updateAllFieldsPerson(Long id, PersonDTO personDTO, Long expectedVersion);
+    Mono<Void> updateSomeFieldsPerson(Long id, PersonDTO personDTO, Long expectedVersion);
+    Mono<Void> deletePerson(Long id);
+    Mono<Long> findPersonAge(Long id, AgeType ageType, LocalDate asOf);
+    Mono<BigDecimal> findPersonSalary(Long id, SalaryType salaryType, LocalDate asOf);
+    Mono<List<PersonCalculationDTO>> findPersonsAgeAndSalary(List<Long> ids, AgeType ageType, SalaryType salaryType, LocalDate asOf);
+}
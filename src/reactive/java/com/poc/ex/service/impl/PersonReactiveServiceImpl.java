@@ -0,0 +1,217 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.mapper.PersonMapperService;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonCalculationDTO;
+import com.poc.ex.model.dto.PersonCollectionVersionDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonDerivedValuesDTO;
+import com.poc.ex.model.dto.PersonPageDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.repository.PersonReactiveRepository;
+import com.poc.ex.service.PersonReactiveService;
+import com.poc.ex.service.PersonService;
+import com.poc.ex.validation.exception.PersonAlreadyExistsException;
+import com.poc.ex.validation.exception.PersonInvalidRequestException;
+import com.poc.ex.validation.exception.PersonNotFoundException;
+import com.poc.ex.validation.exception.PersonVersionMismatchException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Non-blocking counterpart of {@link PersonServiceImpl} for the reactive profile. Reads go straight to R2DBC
+ * (no entity cache), while age and salary reuse the same derivation as the servlet stack. Writes append the
+ * outbox row in their own R2DBC transaction and then run the servlet stack's post-commit hooks.
+ */
+@Service
+@Slf4j
+@Profile("reactive")
+@RequiredArgsConstructor
+public class PersonReactiveServiceImpl implements PersonReactiveService {
+
+    private final PersonReactiveRepository personReactiveRepository;
+    private final PersonMapperService personMapperService;
+    private final PersonService personService;
+    private final TransactionalOperator reactiveTransactionalOperator;
+    private final Clock clock;
+
+    @Override
+    public Mono<VersionedPersonDTO> findOneVersionedPerson(Long id) {
+        return personReactiveRepository.findVersionedPersonById(id)
+                .switchIfEmpty(Mono.error(PersonNotFoundException::new));
+    }
+
+    @Override
+    public Mono<PersonCollectionVersionDTO> findPersonCollectionVersion() {
+        return personReactiveRepository.findCollectionVersion();
+    }
+
+    @Override
+    public Mono<List<PersonDTO>> findAllPersonOrderByName() {
+        return personReactiveRepository.findAllPersonDTOByOrderByNameAsc()
+                .collectList()
+                .filter(persons -> !persons.isEmpty())
+                .switchIfEmpty(Mono.error(PersonNotFoundException::new));
+    }
+
+    @Override
+    public Mono<PersonPageDTO> findPagePersonOrderByName(String cursor, int size) {
+        if(size < 1 || size > PersonServiceImpl.MAX_PAGE_SIZE) { return Mono.error(new PersonInvalidRequestException("Invalid page size")); }
+        Flux<Person> persons;
+        if(cursor == null || cursor.isBlank()) {
+            persons = personReactiveRepository.findAllByOrderByNameAscIdAsc(size + 1);
+        } else {
+            Person last;
+            try {
+                last = PersonServiceImpl.decodeCursor(cursor);
+            } catch (PersonInvalidRequestException ex) {
+                return Mono.error(ex);
+            }
+            persons = personReactiveRepository.findAllAfterOrderByNameAsc(last.getName(), last.getId(), size + 1);
+        }
+        return persons.collectList().map(found -> {
+            boolean hasNext = found.size() > size;
+            List<Person> page = hasNext ? found.subList(0, size) : found;
+            return PersonPageDTO.builder()
+                    .persons(page.stream().map(personMapperService::toPersonDTO).toList())
+                    .nextCursor(hasNext ? PersonServiceImpl.encodeCursor(page.get(page.size() - 1)) : null)
+                    .build();
+        });
+    }
+
+    @Override
+    public Flux<PersonDTO> streamAllPersonOrderByName() {
+        return personReactiveRepository.findAllPersonDTOByOrderByNameAsc();
+    }
+
+    @Override
+    public Mono<Void> savePerson(PersonDTO personDTO) {
+        return Mono.defer(() -> personReactiveRepository.insert(personMapperService.toPerson(personDTO, this.now()))
+                        .flatMap(id -> personReactiveRepository.appendOutbox(WriteOperation.create, id, this.now()).thenReturn(id)))
+                .as(reactiveTransactionalOperator::transactional)
+                .onErrorMap(DataIntegrityViolationException.class, PersonReactiveServiceImpl::translate)
+                .flatMap(id -> this.afterCommit(id, WriteOperation.create))
+                .doOnSuccess(saved -> log.info("state=end-success-save-person, person={}", personDTO));
+    }
+
+    @Override
+    public Mono<Void> updateAllFieldsPerson(Long id, PersonDTO personDTO, Long expectedVersion) {
+        return Mono.defer(() -> personReactiveRepository.updateAllFields(id, personDTO, this.now(), expectedVersion)
+                        .flatMap(updated -> this.appendIfUpdated(WriteOperation.update, id, updated)))
+                .as(reactiveTransactionalOperator::transactional)
+                .onErrorMap(DataIntegrityViolationException.class, PersonReactiveServiceImpl::translate)
+                .flatMap(updated -> this.checkUpdated(id, updated, expectedVersion))
+                .then(this.afterCommit(id, WriteOperation.update));
+    }
+
+    @Override
+    public Mono<Void> updateSomeFieldsPerson(Long id, PersonDTO personDTO, Long expectedVersion) {
+        String name = StringUtils.isBlank(personDTO.name()) ? null : personDTO.name();
+        return Mono.defer(() -> personReactiveRepository.updateSomeFields(id, name, personDTO.birthDate(), personDTO.hireDate(), this.now(), expectedVersion)
+                        .flatMap(updated -> this.appendIfUpdated(WriteOperation.patch, id, updated)))
+                .as(reactiveTransactionalOperator::transactional)
+                .onErrorMap(DataIntegrityViolationException.class, PersonReactiveServiceImpl::translate)
+                .flatMap(updated -> this.checkUpdated(id, updated, expectedVersion))
+                .then(this.afterCommit(id, WriteOperation.patch));
+    }
+
+    @Override
+    public Mono<Void> deletePerson(Long id) {
+        return Mono.defer(() -> personReactiveRepository.deleteById(id)
+                        .flatMap(deleted -> deleted == 0 ? Mono.<Void>error(new PersonNotFoundException()) : personReactiveRepository.appendOutbox(WriteOperation.delete, id, this.now())))
+                .as(reactiveTransactionalOperator::transactional)
+                .then(this.afterCommit(id, WriteOperation.delete));
+    }
+
+    @Override
+    public Mono<Long> findPersonAge(Long id, AgeType ageType, LocalDate asOf) {
+        if(ageType == null ) { return Mono.error(new IllegalArgumentException("Invalid calculate age type")); }
+        return this.findDerivedValues(id, asOf).map(values -> PersonServiceImpl.ageAsOf(values, ageType));
+    }
+
+    @Override
+    public Mono<BigDecimal> findPersonSalary(Long id, SalaryType salaryType, LocalDate asOf) {
+        if(salaryType == null ) { return Mono.error(new IllegalArgumentException("Invalid calculate salary type")); }
+        return this.findDerivedValues(id, asOf).map(values -> PersonServiceImpl.salaryAsOf(values, salaryType));
+    }
+
+    @Override
+    public Mono<List<PersonCalculationDTO>> findPersonsAgeAndSalary(List<Long> ids, AgeType ageType, SalaryType salaryType, LocalDate asOf) {
+        if(ageType == null ) { return Mono.error(new IllegalArgumentException("Invalid calculate age type")); }
+        if(salaryType == null ) { return Mono.error(new IllegalArgumentException("Invalid calculate salary type")); }
+        LocalDate today = this.resolveAsOf(asOf);
+        return personReactiveRepository.findAllById(ids)
+                .collectMap(Person::getId, Function.identity())
+                .map(persons -> ids.stream().map(id -> calculate(id, persons, ageType, salaryType, today)).toList());
+    }
+
+    private Mono<PersonDerivedValuesDTO> findDerivedValues(Long id, LocalDate asOf) {
+        LocalDate today = this.resolveAsOf(asOf);
+        return personReactiveRepository.findDatesById(id)
+                .switchIfEmpty(Mono.error(PersonNotFoundException::new))
+                .map(dates -> PersonDerivedValuesServiceImpl.derive(dates.birthDate(), dates.hireDate(), today));
+    }
+
+    private Mono<Long> appendIfUpdated(WriteOperation operation, Long id, Long updated) {
+        return updated > 0 ? personReactiveRepository.appendOutbox(operation, id, this.now()).thenReturn(updated) : Mono.just(updated);
+    }
+
+    // The hooks read through JDBC, so they leave the event loop once the R2DBC transaction has committed.
+    private Mono<Void> afterCommit(Long id, WriteOperation operation) {
+        return Mono.fromRunnable(() -> personService.afterCommittedWrite(id, operation))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private Mono<Void> checkUpdated(Long id, Long updated, Long expectedVersion) {
+        if(updated > 0) { return Mono.empty(); }
+        if(expectedVersion == null) { return Mono.error(new PersonNotFoundException()); }
+        return personReactiveRepository.existsById(id)
+                .flatMap(exists -> Mono.error(exists ? new PersonVersionMismatchException() : new PersonNotFoundException()));
+    }
+
+    private static PersonCalculationDTO calculate(Long id, Map<Long, Person> persons, AgeType ageType, SalaryType salaryType, LocalDate today) {
+        Person person = persons.get(id);
+        if(person == null) {
+            return PersonCalculationDTO.builder().id(id).error(new PersonNotFoundException().getMessage()).build();
+        }
+        try {
+            PersonDerivedValuesDTO values = PersonDerivedValuesServiceImpl.derive(person.getBirthDate(), person.getHireDate(), today);
+            return PersonCalculationDTO.builder().id(id).age(values.age(ageType)).salary(values.salary(salaryType)).build();
+        } catch (IllegalArgumentException ex) {
+            return PersonCalculationDTO.builder().id(id).error(ex.getMessage()).build();
+        }
+    }
+
+    private static Throwable translate(DataIntegrityViolationException ex) {
+        return PersonAlreadyExistsException.isViolatedBy(ex) ? new PersonAlreadyExistsException() : ex;
+    }
+
+    private LocalDate resolveAsOf(LocalDate asOf) {
+        return asOf != null ? asOf : LocalDate.now(clock);
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC);
+    }
+
+}
@@ -1,13 +1,29 @@
 package com.poc.ex;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 @SpringBootTest
 class ExApplicationTests {
 
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void shouldKeepHibernateCachesOffByDefault() {
+		SessionFactoryOptions options = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getSessionFactoryOptions();
+
+		assertFalse(options.isSecondLevelCacheEnabled());
+		assertFalse(options.isQueryCacheEnabled());
+	}
+
 }
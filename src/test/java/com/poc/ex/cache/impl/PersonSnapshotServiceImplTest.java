@@ -0,0 +1,93 @@
+package com.poc.ex.cache.impl;
+
+import com.poc.ex.cache.PersonSnapshotService;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("snapshot")
+class PersonSnapshotServiceImplTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1980, 1, 1);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonSnapshotService personSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldServeReadsFromSnapshotAndPublishServiceWrites() {
+        assertTrue(personSnapshotService.isReady());
+
+        personService.savePerson(new PersonDTO("SNAPSHOT-SAVED", BIRTH_DATE, HIRE_DATE));
+        Long id = jdbcTemplate.queryForObject("SELECT ID FROM PERSON WHERE NAME = 'SNAPSHOT-SAVED'", Long.class);
+        assertTrue(names().contains("SNAPSHOT-SAVED"));
+
+        personService.updateSomeFieldsPerson(id, PersonDTO.builder().name("SNAPSHOT-PATCHED").build(), 0L);
+        assertEquals("SNAPSHOT-PATCHED", personService.findOneVersionedPerson(id).person().name());
+        assertEquals(1L, personService.findOneVersionedPerson(id).version());
+        assertEquals(personService.findAllPersonOrderByName().size(), personService.findPersonCollectionVersion().count());
+
+        personService.deletePerson(id);
+        assertFalse(names().contains("SNAPSHOT-PATCHED"));
+    }
+
+    @Test
+    void shouldIgnoreWritesOutsideServiceUntilReload() {
+        jdbcTemplate.update("INSERT INTO PERSON (NAME, BIRTH_DATE, HIRE_DATE, CREATE_DATE, UPDATE_DATE) "
+                + "VALUES ('SNAPSHOT-EXTERNAL', DATE '1980-01-01', DATE '2000-01-01', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        assertFalse(names().contains("SNAPSHOT-EXTERNAL"));
+
+        personSnapshotService.reload();
+
+        assertTrue(names().contains("SNAPSHOT-EXTERNAL"));
+        jdbcTemplate.update("DELETE FROM PERSON WHERE NAME = 'SNAPSHOT-EXTERNAL'");
+        personSnapshotService.reload();
+    }
+
+    @Test
+    void shouldReplayRefreshThatOverlapsReload() {
+        PersonRepository personRepository = mock(PersonRepository.class);
+        PersonSnapshotServiceImpl snapshotService = new PersonSnapshotServiceImpl(personRepository, mock(EntityManager.class),
+                mock(PlatformTransactionManager.class), true);
+        Person before = Person.builder().id(7L).name("BEFORE-WRITE").birthDate(BIRTH_DATE).hireDate(HIRE_DATE).version(0L).build();
+        when(personRepository.streamAllByOrderByNameAsc()).thenReturn(Stream.of(before)).thenAnswer(invocation -> {
+            // A writer commits and refreshes while this reload is still reading the previous state of its row.
+            when(personRepository.findVersionedPersonById(7L)).thenReturn(Optional.of(new VersionedPersonDTO("AFTER-WRITE", BIRTH_DATE, HIRE_DATE, null, 1L)));
+            snapshotService.refresh(7L);
+            return Stream.of(before);
+        });
+        snapshotService.reload();
+
+        snapshotService.reload();
+
+        assertEquals("AFTER-WRITE", snapshotService.findVersionedPerson(7L).orElseThrow().person().name());
+        assertEquals(1L, snapshotService.findVersionedPerson(7L).orElseThrow().version());
+    }
+
+    private List<String> names() {
+        return personService.findAllPersonOrderByName().stream().map(PersonDTO::name).toList();
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.poc.ex.cache.impl;
+
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersonSnapshotTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1980, 1, 1);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2000, 1, 1);
+    private static final LocalDateTime UPDATE_DATE = LocalDateTime.of(2025, 1, 1, 10, 30, 15, 123_456_000);
+
+    @Test
+    void shouldServeRowsByIdAndInNameOrder() {
+        PersonSnapshot snapshot = PersonSnapshot.of(List.of(row(3, "MELINDA", 0), row(1, "ADAM", 2), row(2, "BILL", 1)));
+
+        assertEquals(List.of("ADAM", "BILL", "MELINDA"), names(snapshot));
+        VersionedPersonDTO adam = snapshot.find(1);
+        assertEquals(new PersonDTO("ADAM", BIRTH_DATE, HIRE_DATE), adam.person());
+        assertEquals(UPDATE_DATE, adam.updateDate());
+        assertEquals(2L, adam.version());
+        assertEquals(new PersonDTO(null, BIRTH_DATE, HIRE_DATE), snapshot.findDates(3));
+        assertNull(snapshot.find(4));
+        assertNull(snapshot.find(-1));
+        assertEquals(3L, snapshot.collectionVersion().count());
+    }
+
+    @Test
+    void shouldCopyOnWriteWithoutTouchingPublishedSnapshot() {
+        PersonSnapshot original = PersonSnapshot.of(List.of(row(1, "ADAM", 0), row(2, "BILL", 0), row(3, "MELINDA", 0)));
+
+        PersonSnapshot renamed = original.with(row(1, "ZOE", 1));
+        PersonSnapshot inserted = renamed.with(row(10, "CARL", 0));
+        PersonSnapshot deleted = inserted.without(2);
+
+        assertEquals(List.of("ADAM", "BILL", "MELINDA"), names(original));
+        assertEquals(List.of("BILL", "MELINDA", "ZOE"), names(renamed));
+        assertEquals(List.of("BILL", "CARL", "MELINDA", "ZOE"), names(inserted));
+        assertEquals(List.of("CARL", "MELINDA", "ZOE"), names(deleted));
+        assertEquals(1L, deleted.find(1).version());
+        assertEquals("CARL", deleted.find(10).person().name());
+        assertNull(deleted.find(2));
+        assertSame(deleted, deleted.without(2));
+    }
+
+    @Test
+    void shouldIndexSparseIdsByRowCountNotIdRange() {
+        PersonSnapshot snapshot = PersonSnapshot.of(List.of(row(1, "ADAM", 0), row(Long.MAX_VALUE - 1, "BILL", 0), row(5_000_000_000L, "CARL", 0)));
+        PersonSnapshot dense = PersonSnapshot.of(List.of(row(1, "ADAM", 0), row(2, "BILL", 0), row(3, "CARL", 0)));
+
+        assertEquals("BILL", snapshot.find(Long.MAX_VALUE - 1).person().name());
+        assertEquals("CARL", snapshot.with(row(7, "ZOE", 0)).find(5_000_000_000L).person().name());
+        assertNull(snapshot.find(2));
+        assertNull(snapshot.find(Long.MAX_VALUE));
+        assertEquals(dense.estimatedBytes(), snapshot.estimatedBytes());
+    }
+
+    @Test
+    void shouldShareInternedNamesInMemoryEstimate() {
+        PersonSnapshot distinct = PersonSnapshot.of(List.of(row(1, "ADAM", 0), row(2, "BILL", 0)));
+        PersonSnapshot shared = PersonSnapshot.of(List.of(row(1, new String("ADAM"), 0), row(2, new String("ADAM"), 0)));
+
+        assertSame(shared.find(1).person().name(), shared.find(2).person().name());
+        assertTrue(shared.estimatedBytes() < distinct.estimatedBytes());
+    }
+
+    private static PersonSnapshot.Row row(long id, String name, long version) {
+        return new PersonSnapshot.Row(id, name, BIRTH_DATE, HIRE_DATE, UPDATE_DATE, version);
+    }
+
+    private static List<String> names(PersonSnapshot snapshot) {
+        return snapshot.findAllOrderByName().stream().map(PersonDTO::name).toList();
+    }
+
+}
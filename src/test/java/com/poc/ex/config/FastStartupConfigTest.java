@@ -0,0 +1,41 @@
+package com.poc.ex.config;
+
+import com.poc.ex.controller.PersonController;
+import com.poc.ex.service.PersonService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.util.Arrays;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("fast-startup")
+class FastStartupConfigTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Autowired
+    private PersonService personService;
+
+    @Test
+    void shouldDeferOpenApiModelAndKeepRequestPathEager() {
+        List<String> openApiBeans = Arrays.stream(beanFactory.getBeanDefinitionNames())
+                .filter(name -> {
+                    Class<?> type = beanFactory.getType(name, false);
+                    return type != null && type.getName().startsWith("org.springdoc");
+                })
+                .toList();
+
+        assertFalse(openApiBeans.isEmpty());
+        openApiBeans.forEach(name -> assertTrue(beanFactory.getBeanDefinition(name).isLazyInit(), name));
+        List.of("openApiResource", "openAPIBuilder", "operationBuilder", "modelConverterRegistrar")
+                .forEach(name -> assertFalse(beanFactory.containsSingleton(name), name));
+        assertTrue(beanFactory.containsSingleton(beanFactory.getBeanNamesForType(PersonController.class)[0]));
+        assertEquals("ADAM", personService.findOnePerson(1L).orElseThrow().name());
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.poc.ex.config;
+
+import com.poc.ex.model.dto.PersonCalculationRequestDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import jakarta.validation.Configuration;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Past;
+import org.junit.jupiter.api.Test;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationConfigTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2020, 1, 1);
+
+    @Test
+    void shouldEvaluatePastDatesAgainstApplicationClock() {
+        Configuration<?> configuration = Validation.byDefaultProvider().configure();
+        new ValidationConfig().clockProviderCustomizer(Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC))
+                .customize(configuration);
+
+        try (ValidatorFactory validatorFactory = configuration.buildValidatorFactory()) {
+            Set<ConstraintViolation<PersonDTO>> violations = validatorFactory.getValidator()
+                    .validate(new PersonDTO("ADAM", LocalDate.of(1990, 1, 1), TODAY.plusDays(1)));
+
+            ConstraintViolation<PersonDTO> violation = violations.iterator().next();
+            assertEquals(1, violations.size());
+            assertEquals("hireDate", violation.getPropertyPath().toString());
+            assertEquals("Past hire date required", violation.getMessage());
+            assertEquals(Past.class, violation.getConstraintDescriptor().getAnnotation().annotationType());
+            assertTrue(validatorFactory.getValidator().validate(new PersonDTO("ADAM", LocalDate.of(1990, 1, 1), TODAY.minusDays(1))).isEmpty());
+        }
+    }
+
+    @Test
+    void shouldLowerCalculationIdsLimitFromConfiguration() {
+        Configuration<?> configuration = Validation.byDefaultProvider().configure();
+        new ValidationConfig().calculationIdsLimitCustomizer(2).customize(configuration);
+
+        try (ValidatorFactory validatorFactory = configuration.buildValidatorFactory()) {
+            Set<ConstraintViolation<PersonCalculationRequestDTO>> violations = validatorFactory.getValidator()
+                    .validate(new PersonCalculationRequestDTO(List.of(1L, 2L, 3L), AgeType.years, SalaryType.full));
+
+            assertEquals(1, violations.size());
+            assertEquals("At most 2 ids allowed", violations.iterator().next().getMessage());
+            assertTrue(validatorFactory.getValidator().validate(new PersonCalculationRequestDTO(List.of(1L, 2L), AgeType.years, SalaryType.full)).isEmpty());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ValidationConfig().calculationIdsLimitCustomizer(PersonCalculationRequestDTO.MAX_IDS + 1));
+    }
+
+}
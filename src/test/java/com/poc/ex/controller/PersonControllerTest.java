@@ -0,0 +1,78 @@
+package com.poc.ex.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PersonControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldRejectInvalidSearchWithBadRequest() throws Exception {
+        mockMvc.perform(get("/person/search").param("sort", "updateDate"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.errors[0]").value("Invalid sort field updateDate"));
+        mockMvc.perform(get("/person/search").param("size", "1001"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("Invalid page size"));
+    }
+
+    @Test
+    void shouldRejectInvalidPageWithBadRequest() throws Exception {
+        mockMvc.perform(get("/person/page").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("Invalid page size"));
+        mockMvc.perform(get("/person/page").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"))
+                .andExpect(jsonPath("$.errors[0]").value("Invalid cursor"));
+    }
+
+    @Test
+    void shouldRejectAsOfBeforePersonDatesWithBadRequest() throws Exception {
+        mockMvc.perform(get("/person/1/age").param("ageType", "years").param("asOf", "1980-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.errors[0]").value("Invalid asOf before birth date"));
+        mockMvc.perform(get("/person/1/salary").param("salaryType", "full").param("asOf", "2020-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("Invalid asOf before hire date"));
+        mockMvc.perform(get("/person/1/age").param("ageType", "years").param("asOf", "2020-01-01"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRejectTooManyCalculationIdsWithBadRequest() throws Exception {
+        String ids = LongStream.rangeClosed(1, 1001).mapToObj(String::valueOf).collect(Collectors.joining(","));
+        mockMvc.perform(post("/person/calculations").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[" + ids + "],\"ageType\":\"years\",\"salaryType\":\"full\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.errors[0]").value("ids: At most 1000 ids allowed"));
+        mockMvc.perform(post("/person/calculations").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1],\"ageType\":\"years\",\"salaryType\":\"full\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRejectInvalidAnalyticsBandWithBadRequest() throws Exception {
+        mockMvc.perform(get("/person/analytics").param("bandYears", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0]").value("Invalid tenure band"));
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.AgeBucketDTO;
+import com.poc.ex.model.dto.PersonAnalyticsDTO;
+import com.poc.ex.model.dto.TenureBandDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonAnalyticsService;
+import com.poc.ex.service.PersonService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PersonAnalyticsServiceImplTest {
+
+    @Autowired
+    private PersonAnalyticsService personAnalyticsService;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Test
+    void shouldMatchPerPersonAgeAndSalary() {
+        LocalDate today = LocalDate.now();
+        List<Person> created = personRepository.saveAll(List.of(
+                person("ANALYTICS-1", today.minusYears(30), today.minusYears(3)),
+                person("ANALYTICS-2", today.minusYears(30).plusDays(1), today.minusYears(3).plusDays(1)),
+                person("ANALYTICS-3", today.minusYears(41).minusDays(1), today.minusYears(12).minusDays(1)),
+                person("ANALYTICS-4", LocalDate.of(1980, 2, 29), LocalDate.of(2004, 2, 29))));
+        try {
+            PersonAnalyticsDTO analytics = personAnalyticsService.findPersonAnalytics(5, null);
+
+            BigDecimal expectedTotal = BigDecimal.ZERO;
+            Map<Long, Long> expectedAges = new TreeMap<>();
+            for (Person person : personRepository.findAll()) {
+                expectedTotal = expectedTotal.add(personService.findPersonSalary(person.getId(), SalaryType.full, null));
+                expectedAges.merge(personService.findPersonAge(person.getId(), AgeType.years, null), 1L, Long::sum);
+            }
+
+            assertEquals(personRepository.count(), analytics.headcount());
+            assertEquals(0, expectedTotal.compareTo(analytics.totalFullSalary()));
+            assertEquals(0, analytics.totalFullSalary().compareTo(analytics.salaryByTenure().stream()
+                    .map(TenureBandDTO::totalFullSalary).reduce(BigDecimal.ZERO, BigDecimal::add)));
+            assertEquals(expectedAges, analytics.ageDistribution().stream()
+                    .collect(TreeMap::new, (map, bucket) -> map.put(bucket.ageInYears(), bucket.headcount()), Map::putAll));
+            assertEquals(analytics.headcount(), analytics.ageDistribution().stream().mapToLong(AgeBucketDTO::headcount).sum());
+        } finally {
+            personRepository.deleteAll(created);
+        }
+    }
+
+    private static Person person(String name, LocalDate birthDate, LocalDate hireDate) {
+        return Person.builder().name(name).birthDate(birthDate).hireDate(hireDate)
+                .createDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build();
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonDerivedValuesDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class PersonDerivedValuesServiceImplTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1990, 3, 15);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2020, 3, 15);
+
+    private final MutableClock clock = new MutableClock(LocalDate.of(2025, 3, 14));
+    private final PersonDerivedValuesServiceImpl personDerivedValuesService =
+            new PersonDerivedValuesServiceImpl(null, null, mock(PlatformTransactionManager.class), clock, false, 100, Duration.ofMinutes(5));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void shouldComputeOnceAndServeFromStore() {
+        PersonDerivedValuesDTO first = personDerivedValuesService.get(1L, this::load);
+        PersonDerivedValuesDTO second = personDerivedValuesService.get(1L, this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(34, first.age(AgeType.years));
+        assertEquals(SalaryEngine.fullSalary(4), first.salary(SalaryType.full));
+    }
+
+    @Test
+    void shouldRollOverWhenDateChanges() {
+        personDerivedValuesService.get(1L, this::load);
+        clock.setToday(LocalDate.of(2025, 3, 15));
+        personDerivedValuesService.refreshAll();
+
+        PersonDerivedValuesDTO values = personDerivedValuesService.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(35, values.age(AgeType.years));
+        assertEquals(SalaryEngine.minSalary(5), values.salary(SalaryType.min));
+    }
+
+    @Test
+    void shouldReloadAfterEviction() {
+        personDerivedValuesService.get(1L, this::load);
+        personDerivedValuesService.evict(1L);
+        personDerivedValuesService.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldReloadOnceEntryExpires() {
+        PersonDerivedValuesServiceImpl expiring = new PersonDerivedValuesServiceImpl(null, null, mock(PlatformTransactionManager.class), clock, false, 100, Duration.ZERO);
+
+        expiring.get(1L, this::load);
+        expiring.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+        assertFalse(expiring.isLoaded(1L));
+    }
+
+    @Test
+    void shouldComputeBackdatedValuesWithoutReplacingStore() {
+        PersonDerivedValuesDTO backdated = personDerivedValuesService.get(1L, this::load, LocalDate.of(2023, 3, 15));
+        PersonDerivedValuesDTO current = personDerivedValuesService.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(33, backdated.age(AgeType.years));
+        assertEquals(SalaryEngine.fullSalary(3), backdated.salary(SalaryType.full));
+        assertEquals(LocalDate.of(2025, 3, 14), current.asOf());
+        assertSame(current, personDerivedValuesService.get(1L, this::load, LocalDate.of(2025, 3, 14)));
+    }
+
+    @Test
+    void shouldServeAgeAsOfDateBeforeHireDate() {
+        LocalDate asOf = LocalDate.of(2015, 3, 15);
+
+        PersonDerivedValuesDTO values = personDerivedValuesService.get(1L, this::load, asOf);
+
+        assertEquals(25, values.age(AgeType.years));
+        assertTrue(values.hasAge());
+        assertFalse(values.hasSalary());
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> values.salary(SalaryType.full));
+        assertEquals("Invalid future date", ex.getMessage());
+    }
+
+    @Test
+    void shouldRejectOnlyTheValueWhoseDateIsMissingOrInFuture() {
+        PersonDerivedValuesDTO futureBirth = PersonDerivedValuesServiceImpl.derive(LocalDate.of(2030, 1, 1), HIRE_DATE, LocalDate.of(2025, 3, 14));
+        PersonDerivedValuesDTO noHire = PersonDerivedValuesServiceImpl.derive(BIRTH_DATE, null, LocalDate.of(2025, 3, 14));
+
+        assertEquals(SalaryEngine.fullSalary(4), futureBirth.salary(SalaryType.full));
+        assertEquals("Invalid future date", assertThrows(IllegalArgumentException.class, () -> futureBirth.age(AgeType.days)).getMessage());
+        assertEquals(34, noHire.age(AgeType.years));
+        assertEquals("Invalid date", assertThrows(IllegalArgumentException.class, () -> noHire.salary(SalaryType.min)).getMessage());
+    }
+
+    private PersonDTO load(Long id) {
+        loads.incrementAndGet();
+        return PersonDTO.builder().name("ADAM").birthDate(BIRTH_DATE).hireDate(HIRE_DATE).build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(LocalDate today) {
+            setToday(today);
+        }
+
+        void setToday(LocalDate today) {
+            instant = today.atTime(12, 0).toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.poc.ex.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.ExportFormat;
+import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.repository.PersonRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PersonExportServiceImplTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+
+    private final PersonRepository personRepository = mock(PersonRepository.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final PersonExportServiceImpl personExportService = new PersonExportServiceImpl(personRepository, entityManager,
+            new ObjectMapper(), Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    void shouldExportCsvWithDerivedColumnsAndEscapedNames() {
+        Person adam = Person.builder().id(1L).name("SMITH, \"ADAM\"").birthDate(LocalDate.of(1990, 3, 15)).hireDate(LocalDate.of(2020, 3, 15)).build();
+        Person future = Person.builder().id(2L).name("BILL").birthDate(LocalDate.of(1990, 1, 1)).hireDate(LocalDate.of(2030, 1, 1)).build();
+        when(personRepository.streamAllByOrderByNameAsc()).thenReturn(Stream.of(adam, future));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = personExportService.exportPersons(ExportFormat.csv, AgeType.years, SalaryType.full, null, out);
+
+        assertEquals(2, rows);
+        assertEquals("id,name,birthDate,hireDate,age,salary\n"
+                + "1,\"SMITH, \"\"ADAM\"\"\",1990-03-15,2020-03-15,35," + SalaryEngine.fullSalary(5).toPlainString() + "\n"
+                + "2,BILL,1990-01-01,2030-01-01,35,\n", out.toString(StandardCharsets.UTF_8));
+        verify(entityManager, times(2)).detach(any());
+    }
+
+    @Test
+    void shouldExportNdjsonAsOfGivenDate() {
+        Person adam = Person.builder().id(1L).name("ADAM").birthDate(LocalDate.of(1990, 3, 15)).hireDate(LocalDate.of(2020, 3, 15)).build();
+        when(personRepository.streamAllByOrderByNameAsc()).thenReturn(Stream.of(adam, adam));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        personExportService.exportPersons(ExportFormat.ndjson, AgeType.months, SalaryType.min, LocalDate.of(2021, 3, 15), out);
+
+        String line = "{\"id\":1,\"name\":\"ADAM\",\"birthDate\":\"1990-03-15\",\"hireDate\":\"2020-03-15\",\"age\":372,\"salary\":"
+                + SalaryEngine.minSalary(1).toPlainString() + "}\n";
+        assertEquals(line + line, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldExportAgeAsOfDateBeforeHireDate() {
+        Person adam = Person.builder().id(1L).name("ADAM").birthDate(LocalDate.of(1990, 3, 15)).hireDate(LocalDate.of(2020, 3, 15)).build();
+        when(personRepository.streamAllByOrderByNameAsc()).thenReturn(Stream.of(adam));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        personExportService.exportPersons(ExportFormat.ndjson, AgeType.years, SalaryType.full, LocalDate.of(2015, 3, 15), out);
+
+        assertEquals("{\"id\":1,\"name\":\"ADAM\",\"birthDate\":\"1990-03-15\",\"hireDate\":\"2020-03-15\",\"age\":25}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.cache.PersonSnapshotService;
+import com.poc.ex.mapper.PersonMapperServiceImpl;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonImportResultDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonOutboxService;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PersonImportServiceImplTest {
+
+    private final PersonRepository personRepository = mock(PersonRepository.class);
+    private final PersonOutboxService personOutboxService = mock(PersonOutboxService.class);
+    private ValidatorFactory validatorFactory;
+    private PersonImportServiceImpl personImportService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        personImportService = new PersonImportServiceImpl(personRepository, new PersonMapperServiceImpl(), mock(PersonSnapshotService.class), personOutboxService,
+                validatorFactory.getValidator(), mock(PlatformTransactionManager.class), Clock.systemUTC(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void shouldImportPersonsInBatches() {
+        List<PersonDTO> persons = List.of(person("ADAM"), person("BILL"), person("MELINDA"));
+
+        PersonImportResultDTO result = personImportService.importPersons(persons.iterator());
+
+        assertEquals(3, result.total());
+        assertEquals(3, result.imported());
+        assertTrue(result.failures().isEmpty());
+        verify(personRepository, times(2)).batchInsert(anyList());
+        verify(personOutboxService, times(2)).appendCreates(anyList());
+    }
+
+    @Test
+    void shouldReportInvalidAndDuplicatedRowsWithoutAbortingImport() {
+        PersonDTO invalid = PersonDTO.builder().name("BAD").birthDate(LocalDate.of(2020, 1, 1)).hireDate(LocalDate.of(2010, 1, 1)).build();
+        List<PersonDTO> persons = List.of(person("ADAM"), invalid, person("BILL"));
+        doThrow(new DuplicateKeyException("UQ_PERSON_NAME_BIRTH_DATE")).when(personRepository).batchInsert(argThat(batch -> batch.size() == 2));
+        doThrow(new DuplicateKeyException("UQ_PERSON_NAME_BIRTH_DATE")).when(personRepository).batchInsert(argThat(batch -> batch.size() == 1 && batch.get(0).getName().equals("BILL")));
+
+        PersonImportResultDTO result = personImportService.importPersons(persons.iterator());
+
+        assertEquals(3, result.total());
+        assertEquals(1, result.imported());
+        assertEquals(List.of(2L, 3L), result.failures().stream().map(failure -> failure.row()).toList());
+        assertEquals(List.of("Person already exists."), result.failures().get(1).errors());
+    }
+
+    @Test
+    void shouldReportFutureDatesWithFieldMessages() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        PersonDTO futureHire = PersonDTO.builder().name("ADAM").birthDate(LocalDate.of(1990, 1, 1)).hireDate(tomorrow).build();
+        PersonDTO futureBoth = PersonDTO.builder().name("BILL").birthDate(tomorrow.plusDays(1)).hireDate(tomorrow).build();
+
+        PersonImportResultDTO result = personImportService.importPersons(List.of(futureHire, futureBoth).iterator());
+
+        assertEquals(0, result.imported());
+        assertEquals(List.of("hireDate: Past hire date required"), result.failures().get(0).errors());
+        assertEquals(List.of("Birth date must be before hire date", "birthDate: Past birth date required", "hireDate: Past hire date required"),
+                result.failures().get(1).errors().stream().sorted().toList());
+    }
+
+    private static PersonDTO person(String name) {
+        return PersonDTO.builder().name(name).birthDate(LocalDate.of(1990, 1, 1)).hireDate(LocalDate.of(2020, 1, 1)).build();
+    }
+
+}
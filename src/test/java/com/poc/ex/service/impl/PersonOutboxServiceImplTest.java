@@ -0,0 +1,211 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.dto.PersonChangeDTO;
+import com.poc.ex.model.dto.PersonChangeFeedDTO;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.repository.PersonOutboxRepository;
+import com.poc.ex.service.PersonImportService;
+import com.poc.ex.service.PersonOutboxService;
+import com.poc.ex.service.PersonService;
+import com.poc.ex.validation.exception.PersonAlreadyExistsException;
+import com.poc.ex.validation.exception.PersonChangesExpiredException;
+import com.poc.ex.validation.exception.PersonVersionMismatchException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PersonOutboxServiceImplTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1980, 1, 1);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonOutboxService personOutboxService;
+
+    @Autowired
+    private PersonOutboxRepository personOutboxRepository;
+
+    @Autowired
+    private PersonImportService personImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldRecordEveryServiceWriteInCommitOrder() {
+        long head = this.head();
+
+        personService.savePerson(new PersonDTO("OUTBOX-SAVED", BIRTH_DATE, HIRE_DATE));
+        Long id = this.idOf("OUTBOX-SAVED");
+        personService.updateSomeFieldsPerson(id, PersonDTO.builder().name("OUTBOX-PATCHED").build(), 0L);
+        personService.updateAllFieldsPerson(id, new PersonDTO("OUTBOX-UPDATED", BIRTH_DATE, HIRE_DATE.plusDays(1)), 1L);
+        personService.deletePerson(id);
+        personOutboxService.poll();
+
+        PersonChangeFeedDTO feed = personOutboxService.findChanges(head, 10);
+        List<PersonChangeDTO> changes = feed.changes();
+        assertEquals(List.of(WriteOperation.create, WriteOperation.patch, WriteOperation.update, WriteOperation.delete),
+                changes.stream().map(PersonChangeDTO::operation).toList());
+        assertTrue(changes.stream().allMatch(change -> id.equals(change.personId())));
+        assertEquals(List.of(0L, 1L, 2L), changes.subList(0, 3).stream().map(PersonChangeDTO::version).toList());
+        assertEquals("OUTBOX-PATCHED", changes.get(1).person().name());
+        assertEquals(new PersonDTO("OUTBOX-UPDATED", BIRTH_DATE, HIRE_DATE.plusDays(1)), changes.get(2).person());
+        assertNull(changes.get(3).person());
+        assertEquals(changes.get(3).offset(), feed.nextOffset());
+
+        PersonChangeFeedDTO firstBatch = personOutboxService.findChanges(head, 3);
+        assertEquals(3, firstBatch.changes().size());
+        assertEquals(List.of(changes.get(3)), personOutboxService.findChanges(firstBatch.nextOffset(), 3).changes());
+    }
+
+    @Test
+    void shouldNotRecordRolledBackWrites() {
+        personService.savePerson(new PersonDTO("OUTBOX-ROLLBACK", BIRTH_DATE, HIRE_DATE));
+        Long id = this.idOf("OUTBOX-ROLLBACK");
+        long head = this.head();
+
+        assertThrows(PersonAlreadyExistsException.class, () -> personService.savePerson(new PersonDTO("OUTBOX-ROLLBACK", BIRTH_DATE, HIRE_DATE)));
+        assertThrows(PersonVersionMismatchException.class, () -> personService.updateSomeFieldsPerson(id, PersonDTO.builder().name("X").build(), 9L));
+        personOutboxService.poll();
+
+        assertTrue(personOutboxService.findChanges(head, 10).changes().isEmpty());
+        personService.deletePerson(id);
+    }
+
+    @Test
+    void shouldNotSkipWritesThatCommitAfterLaterOnes() throws Exception {
+        long head = this.head();
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            personService.savePerson(new PersonDTO("OUTBOX-SLOW", BIRTH_DATE, HIRE_DATE));
+            appended.countDown();
+            await(release);
+        }));
+        assertTrue(appended.await(10, TimeUnit.SECONDS));
+        personService.savePerson(new PersonDTO("OUTBOX-FAST", BIRTH_DATE, HIRE_DATE));
+        personOutboxService.poll();
+
+        PersonChangeFeedDTO fast = personOutboxService.findChanges(head, 10);
+        assertEquals(List.of(this.idOf("OUTBOX-FAST")), fast.changes().stream().map(PersonChangeDTO::personId).toList());
+
+        release.countDown();
+        slowWriter.get(10, TimeUnit.SECONDS);
+        personOutboxService.poll();
+        PersonChangeFeedDTO slow = personOutboxService.findChanges(fast.nextOffset(), 10);
+        assertEquals(List.of(this.idOf("OUTBOX-SLOW")), slow.changes().stream().map(PersonChangeDTO::personId).toList());
+        assertEquals(fast.nextOffset() + 1, slow.nextOffset());
+
+        personService.deletePerson(this.idOf("OUTBOX-SLOW"));
+        personService.deletePerson(this.idOf("OUTBOX-FAST"));
+    }
+
+    @Test
+    void shouldParkCaughtUpConsumerUntilNextCommit() throws Exception {
+        long head = this.head();
+
+        PersonChangeFeedDTO idle = personOutboxService.awaitChanges(head, 10, Duration.ofMillis(100)).get(5, TimeUnit.SECONDS);
+        assertTrue(idle.changes().isEmpty());
+        assertEquals(head, idle.nextOffset());
+
+        CompletableFuture<PersonChangeFeedDTO> parked = personOutboxService.awaitChanges(head, 10, Duration.ofSeconds(10));
+        assertFalse(parked.isDone());
+        personService.savePerson(new PersonDTO("OUTBOX-AWAITED", BIRTH_DATE, HIRE_DATE));
+
+        PersonChangeFeedDTO woken = parked.get(5, TimeUnit.SECONDS);
+        assertEquals(1, woken.changes().size());
+        assertEquals("OUTBOX-AWAITED", woken.changes().get(0).person().name());
+        personService.deletePerson(this.idOf("OUTBOX-AWAITED"));
+    }
+
+    @Test
+    void shouldWakeConsumerParkedOnAnotherReplica() throws Exception {
+        long head = this.head();
+        PersonOutboxServiceImpl replica = new PersonOutboxServiceImpl(personOutboxRepository, Runnable::run, transactionManager,
+                Clock.systemUTC(), 500, Duration.ofSeconds(25), Duration.ofDays(7));
+
+        CompletableFuture<PersonChangeFeedDTO> parked = replica.awaitChanges(head, 10, Duration.ofSeconds(10));
+        assertFalse(parked.isDone());
+        personService.savePerson(new PersonDTO("OUTBOX-REPLICA", BIRTH_DATE, HIRE_DATE));
+        replica.poll();
+
+        PersonChangeFeedDTO woken = parked.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(this.idOf("OUTBOX-REPLICA")), woken.changes().stream().map(PersonChangeDTO::personId).toList());
+        personService.deletePerson(this.idOf("OUTBOX-REPLICA"));
+    }
+
+    @Test
+    void shouldRecordImportedPersons() {
+        long head = this.head();
+
+        personImportService.importPersons(List.of(new PersonDTO("OUTBOX-IMPORTED", BIRTH_DATE, HIRE_DATE)).iterator());
+        personOutboxService.poll();
+
+        List<PersonChangeDTO> changes = personOutboxService.findChanges(head, 10).changes();
+        assertEquals(1, changes.size());
+        assertEquals(WriteOperation.create, changes.get(0).operation());
+        assertEquals(this.idOf("OUTBOX-IMPORTED"), changes.get(0).personId());
+        assertEquals(0L, changes.get(0).version());
+        personService.deletePerson(this.idOf("OUTBOX-IMPORTED"));
+    }
+
+    @Test
+    void shouldReportPurgedChangesInsteadOfSkippingThem() {
+        long head = this.head();
+        personService.savePerson(new PersonDTO("OUTBOX-PURGED-1", BIRTH_DATE, HIRE_DATE));
+        personService.savePerson(new PersonDTO("OUTBOX-PURGED-2", BIRTH_DATE, HIRE_DATE));
+        long last = personOutboxService.poll();
+        jdbcTemplate.update("DELETE FROM PERSON_OUTBOX WHERE SEQ = ?", head + 1);
+
+        PersonChangesExpiredException partial = assertThrows(PersonChangesExpiredException.class, () -> personOutboxService.findChanges(head, 10));
+        assertTrue(partial.getMessage().endsWith("offset " + (head + 1)));
+        assertEquals(1, personOutboxService.findChanges(head + 1, 10).changes().size());
+
+        jdbcTemplate.update("DELETE FROM PERSON_OUTBOX WHERE SEQ = ?", last);
+        PersonChangesExpiredException all = assertThrows(PersonChangesExpiredException.class, () -> personOutboxService.findChanges(head + 1, 10));
+        assertTrue(all.getMessage().endsWith("offset " + last));
+        assertTrue(personOutboxService.findChanges(last, 10).changes().isEmpty());
+
+        personService.deletePerson(this.idOf("OUTBOX-PURGED-1"));
+        personService.deletePerson(this.idOf("OUTBOX-PURGED-2"));
+    }
+
+    private long head() {
+        return personOutboxService.poll();
+    }
+
+    private Long idOf(String name) {
+        return jdbcTemplate.queryForObject("SELECT ID FROM PERSON WHERE NAME = ?", Long.class, name);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
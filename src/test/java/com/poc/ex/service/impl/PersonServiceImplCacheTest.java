@@ -0,0 +1,102 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.cache.PersonSnapshotService;
+import com.poc.ex.cache.impl.PersonCacheServiceImpl;
+import com.poc.ex.mapper.PersonMapperServiceImpl;
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonDerivedValuesService;
+import com.poc.ex.service.PersonOutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PersonServiceImplCacheTest {
+
+    private static final int WRITES = 100;
+    private static final int READERS = 4;
+
+    private final Map<Long, Person> table = new ConcurrentHashMap<>();
+
+    @Test
+    void shouldNeverReturnStaleDataAfterConcurrentWrites() throws Exception {
+        PersonRepository personRepository = mock(PersonRepository.class);
+        when(personRepository.findVersionedPersonById(1L)).thenAnswer(invocation -> {
+            Person row = table.get(1L);
+            Thread.yield();
+            return Optional.ofNullable(row).map(person -> new VersionedPersonDTO(person.getName(), person.getBirthDate(),
+                    person.getHireDate(), person.getUpdateDate(), person.getVersion()));
+        });
+        when(personRepository.updateSomeFields(eq(1L), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            Person person = copy(table.get(1L));
+            person.setName(invocation.getArgument(1));
+            table.put(1L, person);
+            return 1;
+        });
+        table.put(1L, Person.builder().id(1L).name(nameOf(0)).birthDate(LocalDate.of(1990, 1, 1)).hireDate(LocalDate.of(2020, 1, 1)).build());
+
+        PersonServiceImpl personService = new PersonServiceImpl(personRepository, new PersonMapperServiceImpl(), null,
+                new PersonCacheServiceImpl(100, Duration.ofMinutes(5)), mock(PersonSnapshotService.class), mock(PersonOutboxService.class), mock(PersonDerivedValuesService.class), Clock.systemUTC(), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry());
+
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger committed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(READERS + 1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int reader = 0; reader < READERS; reader++) {
+            futures.add(executor.submit(() -> {
+                while (writing.get()) {
+                    int lastCommitted = committed.get();
+                    int observed = versionOf(personService.findOnePerson(1L).orElseThrow());
+                    assertTrue(observed >= lastCommitted, "stale read " + observed + " after commit " + lastCommitted);
+                }
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            for (int version = 1; version <= WRITES; version++) {
+                personService.updateSomeFieldsPerson(1L, PersonDTO.builder().name(nameOf(version)).build(), null);
+                committed.set(version);
+                assertEquals(version, versionOf(personService.findOnePerson(1L).orElseThrow()));
+            }
+            writing.set(false);
+        }));
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        assertEquals(nameOf(WRITES), personService.findOnePerson(1L).orElseThrow().name());
+    }
+
+    private static String nameOf(int version) {
+        return "PERSON-" + version;
+    }
+
+    private static int versionOf(PersonDTO personDTO) {
+        return Integer.parseInt(personDTO.name().substring("PERSON-".length()));
+    }
+
+    private static Person copy(Person person) {
+        return Person.builder().id(person.getId()).name(person.getName()).birthDate(person.getBirthDate())
+                .hireDate(person.getHireDate()).createDate(person.getCreateDate()).updateDate(person.getUpdateDate()).build();
+    }
+
+}
@@ -0,0 +1,188 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonService;
+import com.poc.ex.validation.exception.PersonNotFoundException;
+import com.poc.ex.validation.exception.PersonVersionMismatchException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+@SpringBootTest
+class PersonServiceImplConcurrencyTest {
+
+    private static final int ITERATIONS = 200;
+    private static final int ROUNDS = 6;
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1980, 1, 1);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        personRepository.deleteAllById(created);
+    }
+
+    @Test
+    void shouldNotLoseConcurrentPatchesToDisjointFields() throws Exception {
+        Long id = this.createPerson("CONCURRENT-OPTIMISTIC");
+
+        long elapsed = this.runConcurrently(id, (field, iteration) -> personService.updateSomeFieldsPerson(id, patch(field, iteration), null));
+
+        this.assertAllUpdatesApplied(id, "CONCURRENT-OPTIMISTIC");
+        log.info("state=optimistic-patch-throughput, updates={}, elapsedMs={}, updatesPerSecond={}",
+                3 * ITERATIONS, elapsed / 1_000_000, 3L * ITERATIONS * 1_000_000_000 / elapsed);
+    }
+
+    @Test
+    void shouldMeasurePatchThroughputAgainstRowLockBaseline() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long[] atomicUpdate = new long[ROUNDS];
+        long[] rowLock = new long[ROUNDS];
+
+        // The strategy that runs first also pays for JIT and pool warm-up, so the order alternates every round.
+        for (int round = 0; round < ROUNDS; round++) {
+            if(round % 2 == 0) {
+                rowLock[round] = this.runRowLockRound(transactionTemplate, "CONCURRENT-PESSIMISTIC-RACE-" + round);
+                atomicUpdate[round] = this.runAtomicUpdateRound(transactionTemplate, "CONCURRENT-OPTIMISTIC-RACE-" + round);
+            } else {
+                atomicUpdate[round] = this.runAtomicUpdateRound(transactionTemplate, "CONCURRENT-OPTIMISTIC-RACE-" + round);
+                rowLock[round] = this.runRowLockRound(transactionTemplate, "CONCURRENT-PESSIMISTIC-RACE-" + round);
+            }
+            log.info("state=patch-throughput-round, round={}, atomicUpdateMs={}, rowLockMs={}",
+                    round, atomicUpdate[round] / 1_000_000, rowLock[round] / 1_000_000);
+        }
+
+        log.info("state=patch-throughput, rounds={}, atomicUpdateMedianMs={}, rowLockMedianMs={}",
+                ROUNDS, median(atomicUpdate) / 1_000_000, median(rowLock) / 1_000_000);
+    }
+
+    @Test
+    void shouldRejectStaleIfMatch() {
+        Long id = this.createPerson("CONCURRENT-STALE");
+
+        personService.updateSomeFieldsPerson(id, PersonDTO.builder().name("CONCURRENT-STALE-1").build(), 0L);
+
+        assertThrows(PersonVersionMismatchException.class,
+                () -> personService.updateSomeFieldsPerson(id, PersonDTO.builder().name("CONCURRENT-STALE-2").build(), 0L));
+        assertThrows(PersonVersionMismatchException.class,
+                () -> personService.updateAllFieldsPerson(id, new PersonDTO("CONCURRENT-STALE-3", BIRTH_DATE, HIRE_DATE), 0L));
+        assertThrows(PersonNotFoundException.class,
+                () -> personService.updateSomeFieldsPerson(Long.MAX_VALUE, PersonDTO.builder().name("CONCURRENT-STALE-4").build(), 0L));
+        assertEquals("CONCURRENT-STALE-1", personRepository.findById(id).orElseThrow().getName());
+        assertEquals(1L, personRepository.findById(id).orElseThrow().getVersion());
+    }
+
+    private long runRowLockRound(TransactionTemplate transactionTemplate, String name) throws Exception {
+        Long id = this.createPerson(name);
+        long elapsed = this.runConcurrently(id, (field, iteration) -> transactionTemplate.executeWithoutResult(status -> {
+            Person person = entityManager.find(Person.class, id, LockModeType.PESSIMISTIC_WRITE);
+            PersonDTO dto = patch(field, iteration);
+            if(dto.name() != null) { person.setName(name + "-" + iteration); }
+            if(dto.birthDate() != null) { person.setBirthDate(dto.birthDate()); }
+            if(dto.hireDate() != null) { person.setHireDate(dto.hireDate()); }
+            person.setUpdateDate(LocalDateTime.now());
+        }));
+        this.assertAllUpdatesApplied(id, name);
+        return elapsed;
+    }
+
+    private long runAtomicUpdateRound(TransactionTemplate transactionTemplate, String name) throws Exception {
+        Long id = this.createPerson(name);
+        long elapsed = this.runConcurrently(id, (field, iteration) -> transactionTemplate.executeWithoutResult(status -> {
+            PersonDTO dto = patch(field, iteration);
+            personRepository.updateSomeFields(id, dto.name() == null ? null : name + "-" + iteration,
+                    dto.birthDate(), dto.hireDate(), LocalDateTime.now(), null);
+        }));
+        this.assertAllUpdatesApplied(id, name);
+        return elapsed;
+    }
+
+    private long runConcurrently(Long id, BiConsumer<Integer, Integer> update) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int field = 0; field < 3; field++) {
+                int owner = field;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int iteration = 0; iteration < ITERATIONS; iteration++) {
+                        update.accept(owner, iteration);
+                    }
+                    return null;
+                }));
+            }
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return System.nanoTime() - started;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertAllUpdatesApplied(Long id, String name) {
+        Person person = personRepository.findById(id).orElseThrow();
+        assertEquals(name + "-" + (ITERATIONS - 1), person.getName());
+        assertEquals(BIRTH_DATE.plusDays(ITERATIONS), person.getBirthDate());
+        assertEquals(HIRE_DATE.plusDays(ITERATIONS), person.getHireDate());
+        assertEquals(3L * ITERATIONS, person.getVersion());
+    }
+
+    private Long createPerson(String name) {
+        Person person = personRepository.save(Person.builder().name(name).birthDate(BIRTH_DATE).hireDate(HIRE_DATE)
+                .createDate(LocalDateTime.now()).updateDate(LocalDateTime.now()).build());
+        created.add(person.getId());
+        return person.getId();
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return (sorted[(sorted.length - 1) / 2] + sorted[sorted.length / 2]) / 2;
+    }
+
+    private static PersonDTO patch(int field, int iteration) {
+        return switch (field) {
+            case 0 -> PersonDTO.builder().name("CONCURRENT-OPTIMISTIC-" + iteration).build();
+            case 1 -> PersonDTO.builder().birthDate(BIRTH_DATE.plusDays(iteration + 1)).build();
+            default -> PersonDTO.builder().hireDate(HIRE_DATE.plusDays(iteration + 1)).build();
+        };
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonImportService;
+import com.poc.ex.service.PersonService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("l2-cache")
+class PersonServiceImplSecondLevelCacheTest {
+
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1980, 1, 1);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2000, 1, 1);
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonImportService personImportService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void shouldServeRepeatedListAndFindByIdFromCache() {
+        personService.findAllPersonOrderByName();
+        personService.findAllPersonOrderByName();
+        personRepository.findById(1L);
+        personRepository.findById(1L);
+
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void shouldInvalidateCachedListOnEveryWrite() {
+        personService.findAllPersonOrderByName();
+
+        personService.savePerson(new PersonDTO("L2-CACHE-SAVED", BIRTH_DATE, HIRE_DATE));
+        assertTrue(names().contains("L2-CACHE-SAVED"));
+        Long id = personRepository.findAll().stream().filter(person -> person.getName().equals("L2-CACHE-SAVED")).findFirst().orElseThrow().getId();
+
+        personService.updateAllFieldsPerson(id, new PersonDTO("L2-CACHE-UPDATED", BIRTH_DATE, HIRE_DATE), null);
+        assertTrue(names().contains("L2-CACHE-UPDATED"));
+        assertEquals("L2-CACHE-UPDATED", personRepository.findById(id).orElseThrow().getName());
+
+        personService.updateSomeFieldsPerson(id, PersonDTO.builder().name("L2-CACHE-PATCHED").build(), null);
+        assertTrue(names().contains("L2-CACHE-PATCHED"));
+        assertEquals("L2-CACHE-PATCHED", personRepository.findById(id).orElseThrow().getName());
+
+        personService.deletePerson(id);
+        assertFalse(names().contains("L2-CACHE-PATCHED"));
+        assertTrue(personRepository.findById(id).isEmpty());
+
+        personImportService.importPersons(List.of(new PersonDTO("L2-CACHE-IMPORTED", BIRTH_DATE, HIRE_DATE)).iterator());
+        assertTrue(names().contains("L2-CACHE-IMPORTED"));
+    }
+
+    private List<String> names() {
+        return personService.findAllPersonOrderByName().stream().map(PersonDTO::name).toList();
+    }
+
+}
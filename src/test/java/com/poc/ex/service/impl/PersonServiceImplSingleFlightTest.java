@@ -0,0 +1,144 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.cache.PersonSnapshotService;
+import com.poc.ex.cache.impl.PersonCacheServiceImpl;
+import com.poc.ex.mapper.PersonMapperServiceImpl;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
+import com.poc.ex.model.enumeration.AgeType;
+import com.poc.ex.model.enumeration.SalaryType;
+import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonOutboxService;
+import com.poc.ex.validation.exception.PersonNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PersonServiceImplSingleFlightTest {
+
+    private static final int CALLERS = 32;
+    private static final LocalDate BIRTH_DATE = LocalDate.of(1980, 6, 1);
+    private static final LocalDate HIRE_DATE = LocalDate.of(2010, 1, 1);
+    private static final PersonDTO PERSON = new PersonDTO("ADAM", BIRTH_DATE, HIRE_DATE);
+
+    private final PersonRepository personRepository = mock(PersonRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+    private PersonServiceImpl personService;
+
+    @BeforeEach
+    void setUp() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        personService = new PersonServiceImpl(personRepository, new PersonMapperServiceImpl(), null,
+                new PersonCacheServiceImpl(100, Duration.ofMinutes(5)), mock(PersonSnapshotService.class), mock(PersonOutboxService.class),
+                new PersonDerivedValuesServiceImpl(personRepository, null, transactionManager, Clock.systemUTC(), false, 100, Duration.ofMinutes(5)),
+                Clock.systemUTC(), transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldShareOneQueryAcrossConcurrentFindsOfSamePerson() throws Exception {
+        when(personRepository.findVersionedPersonById(1L)).thenAnswer(invocation -> this.gated(Optional.of(new VersionedPersonDTO(PERSON, null, 0L))));
+
+        List<Future<Optional<PersonDTO>>> results = this.herd("person", caller -> personService.findOnePerson(1L));
+
+        for (Future<Optional<PersonDTO>> result : results) {
+            assertEquals(PERSON, result.get().orElseThrow());
+        }
+        verify(personRepository, times(1)).findVersionedPersonById(1L);
+    }
+
+    @Test
+    void shouldShareNotFoundAcrossConcurrentFindsOfMissingPerson() throws Exception {
+        when(personRepository.findVersionedPersonById(99L)).thenAnswer(invocation -> this.gated(Optional.empty()));
+
+        List<Future<Optional<PersonDTO>>> results = this.herd("person", caller -> personService.findOnePerson(99L));
+
+        for (Future<Optional<PersonDTO>> result : results) {
+            ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(PersonNotFoundException.class, ex.getCause());
+        }
+        verify(personRepository, times(1)).findVersionedPersonById(99L);
+    }
+
+    @Test
+    void shouldShareOneDateQueryAcrossConcurrentAgeAndSalaryLookups() throws Exception {
+        when(personRepository.findDatesById(1L)).thenAnswer(invocation -> this.gated(Optional.of(new PersonDTO(null, BIRTH_DATE, HIRE_DATE))));
+        LocalDate asOf = LocalDate.of(2020, 1, 1);
+
+        List<Future<Object>> results = this.herd("derived-values", caller -> caller % 2 == 0
+                ? personService.findPersonAge(1L, AgeType.years, asOf.plusYears(caller % 4 == 0 ? 0 : 1))
+                : personService.findPersonSalary(1L, SalaryType.full, asOf));
+
+        for (int caller = 0; caller < CALLERS; caller++) {
+            Object expected = caller % 2 == 0 ? (Object) (caller % 4 == 0 ? 39L : 40L) : SalaryEngine.fullSalary(10);
+            assertEquals(expected, results.get(caller).get());
+        }
+        assertInstanceOf(BigDecimal.class, results.get(1).get());
+        verify(personRepository, times(1)).findDatesById(1L);
+    }
+
+    @Test
+    void shouldShareOneListQueryAcrossConcurrentCallers() throws Exception {
+        when(personRepository.findAllPersonDTOByOrderByNameAsc()).thenAnswer(invocation -> this.gated(new ArrayList<>(List.of(PERSON))));
+
+        List<Future<List<PersonDTO>>> results = this.herd("list", caller -> personService.findAllPersonOrderByName());
+
+        for (Future<List<PersonDTO>> result : results) {
+            assertEquals(List.of(PERSON), result.get());
+            assertThrows(UnsupportedOperationException.class, () -> result.get().add(PERSON));
+        }
+        verify(personRepository, times(1)).findAllPersonDTOByOrderByNameAsc();
+    }
+
+    // Every caller is released together and the single load is held open until all the others have joined it,
+    // so the count of repository calls is exact rather than timing dependent.
+    private <T> List<Future<T>> herd(String load, CallerTask<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> results = new ArrayList<>();
+        for (int caller = 0; caller < CALLERS; caller++) {
+            int id = caller;
+            results.add(executor.submit(() -> {
+                start.await();
+                return task.call(id);
+            }));
+        }
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get("person.loads.shared").tag("load", load).functionCounter().count() < CALLERS - 1) {
+            assertTrue(System.nanoTime() < deadline, "callers did not join the load in flight");
+            Thread.sleep(1);
+        }
+        release.countDown();
+        return results;
+    }
+
+    private <T> T gated(T value) throws InterruptedException {
+        assertTrue(release.await(10, TimeUnit.SECONDS));
+        return value;
+    }
+
+    @FunctionalInterface
+    private interface CallerTask<T> {
+        T call(int caller) throws Exception;
+    }
+
+}
@@ -1,19 +1,37 @@
 package com.poc.ex.service.impl;
 
+import com.poc.ex.cache.PersonCacheService;
+import com.poc.ex.cache.PersonSnapshotService;
+import com.poc.ex.cache.impl.PersonCacheServiceImpl;
 import com.poc.ex.mapper.PersonMapperService;
 import com.poc.ex.model.Person;
+import com.poc.ex.model.dto.PersonCalculationDTO;
 import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonPageDTO;
+import com.poc.ex.model.dto.VersionedPersonDTO;
 import com.poc.ex.model.enumeration.AgeType;
 import com.poc.ex.model.enumeration.SalaryType;
 import com.poc.ex.repository.PersonRepository;
+import com.poc.ex.service.PersonDerivedValuesService;
+import com.poc.ex.service.PersonOutboxService;
+import com.poc.ex.validation.exception.PersonAlreadyExistsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class PersonServiceImplTest {
@@ -29,6 +47,27 @@ class PersonServiceImplTest {
     @Mock
     private PersonMapperService personMapperService;
 
+    @Mock
+    private PersonDerivedValuesService personDerivedValuesService;
+
+    @Spy
+    private PersonCacheService personCacheService = new PersonCacheServiceImpl(100, Duration.ofMinutes(1));
+
+    @Mock
+    private PersonSnapshotService personSnapshotService;
+
+    @Mock
+    private PersonOutboxService personOutboxService;
+
+    @Spy
+    private Clock clock = Clock.systemDefaultZone();
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private PersonServiceImpl personService;
 
@@ -42,37 +81,94 @@ class PersonServiceImplTest {
         Person mockPerson = Person.builder().id(1L).name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
         PersonDTO mockPersonDTO = PersonDTO.builder().name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
 
-        when(personMapperService.toPerson(mockPersonDTO)).thenReturn(mockPerson);
+        when(personMapperService.toPerson(eq(mockPersonDTO), any())).thenReturn(mockPerson);
 
         personService.savePerson(mockPersonDTO);
         verify(personRepository, times(1)).save(mockPerson);
     }
 
     @Test
-    void shouldFindPersonById() {
+    void shouldReportDuplicateNameAndBirthDateAsAlreadyExists() {
         Person mockPerson = Person.builder().name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
         PersonDTO mockPersonDTO = PersonDTO.builder().name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
 
-        when(personMapperService.toPersonDTO(mockPerson)).thenReturn(mockPersonDTO);
-        when(personRepository.findById(1L)).thenReturn(Optional.of(mockPerson));
+        when(personMapperService.toPerson(eq(mockPersonDTO), any())).thenReturn(mockPerson);
+        when(personRepository.save(mockPerson)).thenThrow(new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UQ_PERSON_NAME_BIRTH_DATE_INDEX_8\"")));
+
+        assertThrows(PersonAlreadyExistsException.class, () -> personService.savePerson(mockPersonDTO));
+    }
+
+    @Test
+    void shouldFindPersonById() {
+        PersonDTO mockPersonDTO = PersonDTO.builder().name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
+
+        when(personRepository.findVersionedPersonById(1L)).thenReturn(Optional.of(new VersionedPersonDTO(mockPersonDTO, null, 0L)));
         Optional<PersonDTO> result = personService.findOnePerson(1L);
 
         assertTrue(result.isPresent());
-        verify(personRepository).findById(1L);
+        verify(personRepository).findVersionedPersonById(1L);
+        verify(personRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldServeRepeatedFindPersonByIdFromCache() {
+        PersonDTO mockPersonDTO = PersonDTO.builder().name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
+
+        when(personRepository.findVersionedPersonById(1L)).thenReturn(Optional.of(new VersionedPersonDTO(mockPersonDTO, null, 0L)));
+        personService.findOnePerson(1L);
+        personService.findOnePerson(1L);
+
+        verify(personRepository, times(1)).findVersionedPersonById(1L);
+        assertEquals(1, personCacheService.stats().hitCount());
+    }
+
+    @Test
+    void shouldEvictCachedPersonOnUpdate() {
+        Person mockPerson = Person.builder().id(1L).name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
+        PersonDTO mockPersonDTO = PersonDTO.builder().name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
+
+        when(personMapperService.toExistsPerson(eq(mockPerson), eq(mockPersonDTO), eq(true), any())).thenReturn(mockPerson);
+        when(personRepository.findById(1L)).thenReturn(Optional.of(mockPerson));
+        when(personRepository.findVersionedPersonById(1L)).thenReturn(Optional.of(new VersionedPersonDTO(mockPersonDTO, null, 0L)));
+        personService.findOnePerson(1L);
+        personService.updateAllFieldsPerson(1L, mockPersonDTO, null);
+        personService.findOnePerson(1L);
+
+        verify(personCacheService).evict(1L);
+        verify(personRepository, times(2)).findVersionedPersonById(1L);
     }
 
     @Test
     void shouldFindAllPersonsOrderedByName() {
-        Person mockPerson = Person.builder().name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
         PersonDTO mockPersonDTO = PersonDTO.builder().name("Person name").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
-        List<Person> mockPersonList = List.of(mockPerson);
 
-        when(personMapperService.toPersonDTO(mockPerson)).thenReturn(mockPersonDTO);
-        when(personRepository.findAllByOrderByNameAsc()).thenReturn(mockPersonList);
+        when(personRepository.findAllPersonDTOByOrderByNameAsc()).thenReturn(List.of(mockPersonDTO));
         List<PersonDTO> result = personService.findAllPersonOrderByName();
 
         assertEquals(1, result.size());
-        verify(personRepository).findAllByOrderByNameAsc();
+        verify(personRepository).findAllPersonDTOByOrderByNameAsc();
+        verify(personMapperService, never()).toPersonDTO(any());
+    }
+
+    @Test
+    void shouldFindPagePersonsWithKeysetCursor() {
+        Person first = Person.builder().id(1L).name("ADAM").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
+        Person second = Person.builder().id(2L).name("BILL").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
+        PersonDTO mockPersonDTO = PersonDTO.builder().name("ADAM").birthDate(LocalDate.now()).hireDate(LocalDate.now()).build();
+
+        when(personMapperService.toPersonDTO(first)).thenReturn(mockPersonDTO);
+        when(personRepository.findAllByOrderByNameAscIdAsc(any())).thenReturn(List.of(first, second));
+        PersonPageDTO page = personService.findPagePersonOrderByName(null, 1);
+
+        assertEquals(1, page.persons().size());
+        assertNotNull(page.nextCursor());
+
+        when(personRepository.findAllAfterOrderByNameAsc(eq("ADAM"), eq(1L), any())).thenReturn(List.of(second));
+        PersonPageDTO nextPage = personService.findPagePersonOrderByName(page.nextCursor(), 1);
+
+        assertEquals(1, nextPage.persons().size());
+        assertNull(nextPage.nextCursor());
     }
 
     @Test
@@ -86,11 +182,40 @@ class PersonServiceImplTest {
         verify(personRepository).delete(mockPerson);
     }
 
+    @Test
+    void shouldFindPersonsAgeAndSalaryAsOfGivenDate() {
+        Person mockPerson = Person.builder().id(1L).name("Person name").birthDate(LocalDate.of(1990, 6, 1)).hireDate(LocalDate.of(2015, 1, 1)).build();
+
+        when(personRepository.findAllById(List.of(1L))).thenReturn(List.of(mockPerson));
+        List<PersonCalculationDTO> result = personService.findPersonsAgeAndSalary(List.of(1L), AgeType.years, SalaryType.full, LocalDate.of(2020, 1, 1));
+
+        assertEquals(29L, result.get(0).age());
+        assertEquals(SalaryEngine.fullSalary(5), result.get(0).salary());
+    }
+
+    @Test
+    void shouldFindPersonsAgeAndSalaryReportingMissingIds() {
+        Person mockPerson = Person.builder().id(1L).name("Person name").birthDate(LocalDate.now().minusYears(30)).hireDate(LocalDate.now().minusYears(3)).build();
+
+        when(personRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(mockPerson));
+        List<PersonCalculationDTO> result = personService.findPersonsAgeAndSalary(List.of(1L, 2L), AgeType.years, SalaryType.full, null);
+
+        assertEquals(2, result.size());
+        assertEquals(30L, result.get(0).age());
+        assertEquals(0, personService.calculatePersonSalary(mockPerson.getHireDate(), SalaryType.full).compareTo(result.get(0).salary()));
+        assertNull(result.get(0).error());
+        assertEquals(2L, result.get(1).id());
+        assertNotNull(result.get(1).error());
+        verify(personRepository, times(1)).findAllById(List.of(1L, 2L));
+        verify(personRepository, never()).findById(any());
+    }
+
     @Test
     void shouldCalculateAgeInYears() {
         LocalDate birthDate = LocalDate.now().minusYears(30);
         long age = personService.calculatePersonAge(birthDate, AgeType.years);
         assertEquals(30, age);
+        assertEquals(1, meterRegistry.counter("person.age.calculations", "ageType", "years").count());
     }
 
     @Test
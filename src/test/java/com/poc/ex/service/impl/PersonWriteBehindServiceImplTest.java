@@ -0,0 +1,102 @@
+package com.poc.ex.service.impl;
+
+import com.poc.ex.mapper.PersonMapperServiceImpl;
+import com.poc.ex.model.dto.PersonDTO;
+import com.poc.ex.model.dto.PersonWriteStatusDTO;
+import com.poc.ex.model.enumeration.WriteOperation;
+import com.poc.ex.model.enumeration.WriteStatus;
+import com.poc.ex.service.PersonService;
+import com.poc.ex.validation.exception.PersonNotFoundException;
+import com.poc.ex.validation.exception.PersonWriteQueueFullException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PersonWriteBehindServiceImplTest {
+
+    private final PersonService personService = mock(PersonService.class);
+    private PersonWriteBehindServiceImpl personWriteBehindService;
+
+    @BeforeEach
+    void setUp() {
+        personWriteBehindService = new PersonWriteBehindServiceImpl(personService, new PersonMapperServiceImpl(),
+                Clock.systemUTC(), true, 2, 10, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldCoalescePatchesToSamePersonIntoOneWrite() {
+        PersonWriteStatusDTO first = personWriteBehindService.accept(WriteOperation.patch, 1L, PersonDTO.builder().name("ADAM").build());
+        PersonWriteStatusDTO second = personWriteBehindService.accept(WriteOperation.patch, 1L, PersonDTO.builder().birthDate(LocalDate.of(1990, 1, 1)).build());
+        PersonWriteStatusDTO third = personWriteBehindService.accept(WriteOperation.patch, 1L, PersonDTO.builder().name("ADAM SMITH").build());
+        assertEquals(WriteStatus.pending, personWriteBehindService.findWriteStatus(first.writeId()).status());
+
+        assertEquals(1, personWriteBehindService.flush());
+
+        verify(personService, times(1)).updateSomeFieldsPerson(1L, new PersonDTO("ADAM SMITH", LocalDate.of(1990, 1, 1), null), null);
+        assertEquals(WriteStatus.applied, personWriteBehindService.findWriteStatus(first.writeId()).status());
+        assertEquals(WriteStatus.applied, personWriteBehindService.findWriteStatus(second.writeId()).status());
+        assertEquals(WriteStatus.applied, personWriteBehindService.findWriteStatus(third.writeId()).status());
+    }
+
+    @Test
+    void shouldLetDeleteSupersedePendingWritesAndRejectLaterUpdates() {
+        personWriteBehindService.accept(WriteOperation.update, 1L, PersonDTO.builder().name("ADAM").build());
+        personWriteBehindService.accept(WriteOperation.delete, 1L, null);
+
+        assertThrows(PersonNotFoundException.class,
+                () -> personWriteBehindService.accept(WriteOperation.patch, 1L, PersonDTO.builder().name("BILL").build()));
+        personWriteBehindService.flush();
+
+        verify(personService, times(1)).deletePerson(1L);
+        verify(personService, never()).updateAllFieldsPerson(any(), any(), any());
+    }
+
+    @Test
+    void shouldRejectNewWritesWhenQueueIsFullButKeepCoalescing() {
+        personWriteBehindService.accept(WriteOperation.patch, 1L, PersonDTO.builder().name("ADAM").build());
+        personWriteBehindService.accept(WriteOperation.create, null, PersonDTO.builder().name("BILL").build());
+
+        assertThrows(PersonWriteQueueFullException.class,
+                () -> personWriteBehindService.accept(WriteOperation.patch, 2L, PersonDTO.builder().name("MELINDA").build()));
+        assertDoesNotThrow(() -> personWriteBehindService.accept(WriteOperation.patch, 1L, PersonDTO.builder().name("ADAM SMITH").build()));
+
+        assertEquals(2, personWriteBehindService.flush());
+        assertDoesNotThrow(() -> personWriteBehindService.accept(WriteOperation.patch, 2L, PersonDTO.builder().name("MELINDA").build()));
+    }
+
+    @Test
+    void shouldApplyEachWriteOnItsOwnSoOneFailureDoesNotUndoTheOthers() {
+        doThrow(new PersonNotFoundException()).when(personService).updateSomeFieldsPerson(eq(2L), any(), any());
+        PersonWriteStatusDTO applied = personWriteBehindService.accept(WriteOperation.patch, 1L, PersonDTO.builder().name("ADAM").build());
+        PersonWriteStatusDTO failed = personWriteBehindService.accept(WriteOperation.patch, 2L, PersonDTO.builder().name("BILL").build());
+
+        personWriteBehindService.flush();
+
+        verify(personService, times(1)).updateSomeFieldsPerson(eq(1L), any(), any());
+        assertEquals(WriteStatus.applied, personWriteBehindService.findWriteStatus(applied.writeId()).status());
+        PersonWriteStatusDTO failedStatus = personWriteBehindService.findWriteStatus(failed.writeId());
+        assertEquals(WriteStatus.failed, failedStatus.status());
+        assertEquals("Person not found.", failedStatus.error());
+    }
+
+    @Test
+    void shouldNotExposeDatabaseMessagesInWriteStatus() {
+        doThrow(new DataIntegrityViolationException("could not execute statement [NULL not allowed for column \"NAME\"; SQL statement: update person set name=?]"))
+                .when(personService).updateAllFieldsPerson(eq(1L), any(), any());
+        PersonWriteStatusDTO accepted = personWriteBehindService.accept(WriteOperation.update, 1L, PersonDTO.builder().build());
+
+        personWriteBehindService.flush();
+
+        PersonWriteStatusDTO status = personWriteBehindService.findWriteStatus(accepted.writeId());
+        assertEquals(WriteStatus.failed, status.status());
+        assertEquals(PersonWriteBehindServiceImpl.WRITE_FAILED, status.error());
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.poc.ex.service.impl;
+
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SalaryEngineTest {
+
+    private static final BigDecimal MIN_SALARY = new BigDecimal("1302.00");
+    private static final BigDecimal INITIAL_SALARY = new BigDecimal("1558.00");
+    private static final BigDecimal PERCENT_INCRISE_SALARY = new BigDecimal("0.18");
+    private static final BigDecimal FIXED_INCRISE_SALARY = new BigDecimal("500.00");
+
+    @Test
+    void shouldMatchLoopFullSalaryForEveryTenureUpTo100Years() {
+        for (long hireYears = 0; hireYears <= 100; hireYears++) {
+            assertEquals(loopFullSalary(hireYears), SalaryEngine.fullSalary(hireYears), "hireYears=" + hireYears);
+        }
+    }
+
+    @Test
+    void shouldMatchLoopMinSalaryForEveryTenureUpTo100Years() {
+        for (long hireYears = 0; hireYears <= 100; hireYears++) {
+            BigDecimal expected = loopFullSalary(hireYears).divide(MIN_SALARY, 2, RoundingMode.UP);
+            assertEquals(expected, SalaryEngine.minSalary(hireYears), "hireYears=" + hireYears);
+        }
+    }
+
+    @Test
+    void shouldMatchLoopSalaryBeyondPrecomputedTable() {
+        long hireYears = SalaryEngine.TABLE_SIZE + 5;
+        assertEquals(loopFullSalary(hireYears), SalaryEngine.fullSalary(hireYears));
+        assertEquals(loopFullSalary(hireYears).divide(MIN_SALARY, 2, RoundingMode.UP), SalaryEngine.minSalary(hireYears));
+    }
+
+    @Test
+    void shouldReturnInitialSalaryForNonPositiveTenure() {
+        assertEquals(INITIAL_SALARY, SalaryEngine.fullSalary(0));
+        assertEquals(INITIAL_SALARY, SalaryEngine.fullSalary(-1));
+    }
+
+    private static BigDecimal loopFullSalary(long hireYears) {
+        BigDecimal salary = INITIAL_SALARY;
+        while(hireYears > 0){
+            salary = salary.add(salary.multiply(PERCENT_INCRISE_SALARY).add(FIXED_INCRISE_SALARY));
+            hireYears--;
+        }
+        return salary;
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.poc.ex.service.impl;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void shouldShareLeaderExceptionAndStartFreshLoadAfterwards() throws Exception {
+        SingleFlight<Long, String> loads = new SingleFlight<>();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("database unavailable");
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> loads.load(1L, key -> {
+            loading.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> loads.load(1L, key -> "unexpected"));
+        while (loads.sharedCount() < 1) { Thread.onSpinWait(); }
+        release.countDown();
+
+        assertSame(failure, assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+        assertSame(failure, assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals("ADAM", loads.load(1L, key -> "ADAM"));
+        assertEquals(2, loads.loadCount());
+    }
+
+    @Test
+    void shouldNotJoinForgottenLoad() throws Exception {
+        SingleFlight<Long, String> loads = new SingleFlight<>();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger queries = new AtomicInteger();
+
+        CompletableFuture<String> stale = CompletableFuture.supplyAsync(() -> loads.load(1L, key -> {
+            queries.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "BEFORE-WRITE";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        loads.forget(1L);
+
+        assertEquals("AFTER-WRITE", loads.load(1L, key -> {
+            queries.incrementAndGet();
+            return "AFTER-WRITE";
+        }));
+        release.countDown();
+        assertEquals("BEFORE-WRITE", stale.get(5, TimeUnit.SECONDS));
+        assertEquals(2, queries.get());
+        assertEquals(0, loads.sharedCount());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
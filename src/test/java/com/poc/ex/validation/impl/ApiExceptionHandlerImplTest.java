@@ -0,0 +1,66 @@
+package com.poc.ex.validation.impl;
+
+import com.poc.ex.model.dto.ErrorDTO;
+import com.poc.ex.validation.exception.PersonInvalidRequestException;
+import com.poc.ex.validation.exception.PersonNotFoundException;
+import com.poc.ex.validation.exception.PersonUpdateConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiExceptionHandlerImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ApiExceptionHandlerImpl apiExceptionHandler = new ApiExceptionHandlerImpl(meterRegistry,
+            Clock.fixed(Instant.parse("2025-03-15T10:15:30.250Z"), ZoneOffset.UTC), 100);
+
+    @Test
+    void shouldNotCaptureStackTraceForDomainExceptions() {
+        assertEquals(0, new PersonNotFoundException().getStackTrace().length);
+        assertEquals(0, new PersonUpdateConflictException().getStackTrace().length);
+    }
+
+    @Test
+    void shouldReusePreRenderedErrorWithinSameSecond() {
+        ResponseEntity<ErrorDTO> first = apiExceptionHandler.notFoundException(new PersonNotFoundException());
+        ResponseEntity<ErrorDTO> second = apiExceptionHandler.notFoundException(new PersonNotFoundException());
+
+        assertEquals(HttpStatus.NOT_FOUND, first.getStatusCode());
+        assertSame(first.getBody(), second.getBody());
+        assertEquals("Person not found.", first.getBody().errors().get(0));
+        assertEquals(0, first.getBody().dateTime().getNano());
+        assertEquals(2, meterRegistry.counter("person.api.errors", "status", "404", "exception", "PersonNotFoundException").count());
+    }
+
+    @Test
+    void shouldNotShareRenderedErrorAcrossDifferentMessages() {
+        ResponseEntity<ErrorDTO> sort = apiExceptionHandler.badRequestException(new PersonInvalidRequestException("Invalid sort field id"));
+        ResponseEntity<ErrorDTO> size = apiExceptionHandler.badRequestException(new PersonInvalidRequestException("Invalid page size"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, sort.getStatusCode());
+        assertEquals("Invalid sort field id", sort.getBody().errors().get(0));
+        assertEquals("Invalid page size", size.getBody().errors().get(0));
+    }
+
+    @Test
+    void shouldMapUniqueNameBirthDateViolationToConflict() {
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("Unique index or primary key violation: \"PUBLIC.UQ_PERSON_NAME_BIRTH_DATE_INDEX_8 ON PUBLIC.PERSON(NAME, BIRTH_DATE)\""));
+        DataIntegrityViolationException other = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("NULL not allowed for column \"NAME\""));
+
+        ResponseEntity<ErrorDTO> conflict = apiExceptionHandler.dataIntegrityViolationException(duplicate);
+
+        assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        assertEquals("Person already exists.", conflict.getBody().errors().get(0));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, apiExceptionHandler.dataIntegrityViolationException(other).getStatusCode());
+    }
+
+}